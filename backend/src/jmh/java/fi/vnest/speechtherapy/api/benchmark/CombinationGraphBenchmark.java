@@ -0,0 +1,43 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiling the combination graph, which replaced grouping the combinations by verb and building
+ * the verb suggestions from entities.
+ * {@code compile} is the full rebuild done by {@code CombinationIndex}; {@code compileSingleVerb}
+ * builds the suggestions of a single verb from its own combinations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CombinationGraphBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int combinations;
+
+    private SyntheticLexicon lexicon;
+    private List<CombinationTuple> verbCombinations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lexicon = SyntheticLexicon.of(combinations);
+        verbCombinations = lexicon.combinationsOfVerb(lexicon.verbId(0));
+    }
+
+    @Benchmark
+    public CombinationGraph compile() {
+        return CombinationGraph.compile(lexicon.combinations, lexicon.words);
+    }
+
+    @Benchmark
+    public SuggestionResponse compileSingleVerb() {
+        return CombinationGraph.compile(verbCombinations, lexicon.words).suggestions();
+    }
+}
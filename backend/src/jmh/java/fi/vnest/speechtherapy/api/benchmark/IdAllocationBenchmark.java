@@ -0,0 +1,105 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.WordRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Saving a batch of new combinations with {@code saveAll}, per batch, as the ID strategy was before and after
+ * pooled allocation: {@code allocationSize = 1} without JDBC batching, against the real {@code AllowedCombination}
+ * mapping (pooled-lo blocks of 50) with {@code hibernate.jdbc.batch_size} and ordered inserts from
+ * application.properties.
+ * <p>
+ * Each batch is flushed and rolled back, so every invocation runs the same nextval calls and inserts on the
+ * same tables. {@code ./gradlew jmh -PjmhIncludes=IdAllocationBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IdAllocationBenchmark {
+
+    private static final int SUBJECTS = 40;
+
+    @Param({"allocation-size-1", "pooled-lo-50"})
+    private String ids;
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private JpaRepository<?, Long> repository;
+    private BiFunction<Integer, Integer, Object> newCombination;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean pooled = ids.equals("pooled-lo-50");
+        context = pooled
+                ? JpaBenchmarkContext.start("ids-pooled")
+                : JpaBenchmarkContext.start("ids-single",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=0",
+                        "--spring.jpa.properties.hibernate.order_inserts=false",
+                        "--spring.jpa.properties.hibernate.order_updates=false");
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        List<Word> subjects = new ArrayList<>();
+        List<Word> objects = new ArrayList<>();
+        Word verb = transactionTemplate.execute(status -> {
+            WordRepository words = context.getBean(WordRepository.class);
+            for (int i = 0; i < SUBJECTS; i++) {
+                subjects.add(words.save(new Word("subjekti" + i, WordType.SUBJECT)));
+            }
+            for (int i = 0; i < (rows + SUBJECTS - 1) / SUBJECTS; i++) {
+                objects.add(words.save(new Word("objekti" + i, WordType.OBJECT)));
+            }
+            return words.save(new Word("verbi", WordType.VERB));
+        });
+
+        if (pooled) {
+            repository = context.getBean(AllowedCombinationRepository.class);
+            newCombination = (subject, object) ->
+                    new AllowedCombination(subjects.get(subject), verb, objects.get(object));
+        } else {
+            repository = context.getBean(UnpooledCombinationRepository.class);
+            newCombination = (subject, object) ->
+                    new UnpooledCombination(subjects.get(subject), verb, objects.get(object));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int saveAll() {
+        List<Object> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(newCombination.apply(i % SUBJECTS, i / SUBJECTS));
+        }
+
+        Integer saved = transactionTemplate.execute(status -> {
+            int count = saveAll(repository, batch);
+            repository.flush();
+            status.setRollbackOnly();
+            return count;
+        });
+        return saved != null ? saved : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int saveAll(JpaRepository<T, Long> repository, List<Object> entities) {
+        return repository.saveAll((List<T>) entities).size();
+    }
+}
@@ -0,0 +1,52 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.ApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application for benchmarks that go through the persistence layer.
+ * Uses an in-memory H2 database in PostgreSQL mode with the schema created by Hibernate, unless
+ * {@code -Dbenchmark.jdbc.url} (with {@code benchmark.jdbc.user} and {@code benchmark.jdbc.password})
+ * points at a scratch PostgreSQL database to include real network round trips.
+ */
+final class JpaBenchmarkContext {
+
+    private JpaBenchmarkContext() {
+    }
+
+    /**
+     * @param name      Name of the in-memory database, so benchmarks in the same JVM do not share one.
+     * @param extraArgs Additional {@code --property=value} arguments, which win over application.properties.
+     */
+    static ConfigurableApplicationContext start(String name, String... extraArgs) {
+        String url = System.getProperty("benchmark.jdbc.url");
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.username=" + System.getProperty("benchmark.jdbc.user", "sa"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", ""),
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                "--spring.flyway.enabled=false",
+                "--app.data.csv.enabled=false",
+                "--app.startup.background=false",
+                "--app.users=benchmark@example.com:benchmark:Benchmark:ADMIN",
+                "--server.servlet.session.timeout=30m",
+                "--logging.level.root=WARN"
+        ));
+        if (url != null) {
+            args.add("--spring.datasource.url=" + url);
+        } else {
+            args.add("--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                    + "DEFAULT_NULL_ORDERING=HIGH;IGNORE_UNKNOWN_SETTINGS=TRUE");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        }
+        args.addAll(List.of(extraArgs));
+
+        return new SpringApplicationBuilder(ApiApplication.class).run(args.toArray(String[]::new));
+    }
+}
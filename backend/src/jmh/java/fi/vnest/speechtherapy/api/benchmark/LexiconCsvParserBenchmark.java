@@ -0,0 +1,60 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.service.LexiconCsvParser;
+import fi.vnest.speechtherapy.api.service.SyntheticLexiconGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a synthetic lexicon CSV from memory on the calling thread against the chunked parse on a pool of
+ * {@code threads} threads, which {@code LexiconImporter} uses with {@code app.data.csv.parallel=true}.
+ * Parallel parsing is off by default; turn it on only where this benchmark shows it winning on the target
+ * machine. {@code ./gradlew jmh -PjmhIncludes=LexiconCsvParserBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LexiconCsvParserBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int combinations;
+
+    @Param({"2", "4"})
+    private int threads;
+
+    @Param({"10000"})
+    private int chunkLines;
+
+    private String csv;
+    private ExecutorService pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        StringWriter writer = new StringWriter();
+        new SyntheticLexiconGenerator(SyntheticLexiconGenerator.Settings.ofSize(combinations, 42L)).write(writer);
+        csv = writer.toString();
+        pool = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public LexiconCsvParser.Result sequential() throws IOException {
+        return LexiconCsvParser.parse(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Benchmark
+    public LexiconCsvParser.Result parallel() throws IOException {
+        return LexiconCsvParser.parse(new BufferedReader(new StringReader(csv)), pool, chunkLines);
+    }
+}
@@ -0,0 +1,76 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.dto.CombinationResponse;
+import fi.vnest.speechtherapy.api.dto.WordResponse;
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordGroup;
+import fi.vnest.speechtherapy.api.model.WordType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of already loaded entities, per mapped entity.
+ * The entities are plain objects here, so this measures the mapping itself without lazy loading.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private static final int ENTITIES = 1_000;
+
+    private List<AllowedCombination> combinations;
+    private List<Word> words;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WordGroup group = new WordGroup();
+        group.setId(1L);
+        group.setName("1");
+
+        combinations = new ArrayList<>(ENTITIES);
+        words = new ArrayList<>(ENTITIES);
+        for (int i = 0; i < ENTITIES; i++) {
+            Word subject = word(3L * i + 1, "subjekti" + i, WordType.SUBJECT, null);
+            Word verb = word(3L * i + 2, "verbi" + i, WordType.VERB, group);
+            Word object = word(3L * i + 3, "objekti" + i, WordType.OBJECT, null);
+
+            AllowedCombination combination = new AllowedCombination();
+            combination.setId((long) i + 1);
+            combination.setSubject(subject);
+            combination.setVerb(verb);
+            combination.setObject(object);
+            combinations.add(combination);
+
+            words.add(i % 3 == 0 ? subject : i % 3 == 1 ? verb : object);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void combinationResponseFromEntity(Blackhole blackhole) {
+        for (AllowedCombination combination : combinations) {
+            blackhole.consume(CombinationResponse.fromEntity(combination));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void wordResponseFromEntity(Blackhole blackhole) {
+        for (Word word : words) {
+            blackhole.consume(WordResponse.fromEntity(word));
+        }
+    }
+
+    private static Word word(long id, String text, WordType type, WordGroup group) {
+        Word word = new Word(text, type);
+        word.setId(id);
+        word.setGroup(group);
+        return word;
+    }
+}
@@ -0,0 +1,50 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@code /api/suggestions} body, which {@code SuggestionPayloadCache}
+ * does once per graph rebuild and the per-verb endpoint does on every request.
+ * Uses a mapper configured like the one Spring Boot creates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int combinations;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<SuggestionResponse> suggestions;
+    private ApiResponse<SuggestionResponse> verbSuggestions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        SyntheticLexicon lexicon = SyntheticLexicon.of(combinations);
+        suggestions = new ApiResponse<>(true,
+                CombinationGraph.compile(lexicon.combinations, lexicon.words).suggestions());
+        verbSuggestions = new ApiResponse<>(true,
+                CombinationGraph.compile(lexicon.combinationsOfVerb(lexicon.verbId(0)), lexicon.words).suggestions());
+    }
+
+    @Benchmark
+    public byte[] suggestions() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(suggestions);
+    }
+
+    @Benchmark
+    public byte[] verbSuggestions() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(verbSuggestions);
+    }
+}
@@ -0,0 +1,135 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.WordRepository;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiling the combination graph from fetch-joined entities (the previous path) against the scalar tuple and
+ * word reference projections, each read in one transaction from a synthetic table.
+ * <p>
+ * {@code ./gradlew jmh -PjmhIncludes=SuggestionProjectionBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SuggestionProjectionBenchmark {
+
+    private static final int GROUPS = 20;
+    private static final int VERBS = 200;
+    private static final int SUBJECTS = 1_000;
+    private static final int OBJECTS = 1_000;
+    private static final int INSERT_BATCH = 1_000;
+
+    @Param({"200000"})
+    private int combinations;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private AllowedCombinationRepository combinationRepository;
+    private WordRepository wordRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start("projection");
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        combinationRepository = context.getBean(AllowedCombinationRepository.class);
+        wordRepository = context.getBean(WordRepository.class);
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        CombinationGraph fromEntities = fetchJoinedEntities();
+        CombinationGraph fromTuples = tupleProjection();
+        if (fromEntities.combinationCount() != combinations
+                || !fromEntities.suggestions().verbs().equals(fromTuples.suggestions().verbs())) {
+            throw new IllegalStateException("The two paths compiled different graphs");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CombinationGraph fetchJoinedEntities() {
+        return readOnly.execute(status -> {
+            List<AllowedCombination> loaded = combinationRepository.findAllWithWords();
+            List<Word> words = wordRepository.findAll();
+
+            List<CombinationTuple> tuples = new ArrayList<>(loaded.size());
+            for (AllowedCombination combo : loaded) {
+                Word verb = combo.getVerb();
+                tuples.add(new CombinationTuple(
+                        verb.getId(),
+                        combo.getSubject().getId(),
+                        combo.getObject().getId(),
+                        verb.getGroup() != null ? verb.getGroup().getId() : null
+                ));
+            }
+
+            return CombinationGraph.compile(tuples, words.stream().map(WordReference::fromEntity).toList());
+        });
+    }
+
+    @Benchmark
+    public CombinationGraph tupleProjection() {
+        return readOnly.execute(status ->
+                CombinationGraph.compile(combinationRepository.findAllTuples(), wordRepository.findAllReferences()));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> groups = new ArrayList<>();
+        for (int g = 1; g <= GROUPS; g++) {
+            groups.add(new Object[]{g, "group" + g});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO vnest.word_group (id, name) VALUES (?, ?)", groups);
+
+        List<Object[]> words = new ArrayList<>();
+        for (int i = 0; i < VERBS + SUBJECTS + OBJECTS; i++) {
+            long id = i + 1;
+            if (i < VERBS) {
+                words.add(new Object[]{id, "verb" + i, "VERB", (i % GROUPS) + 1, now, now});
+            } else if (i < VERBS + SUBJECTS) {
+                words.add(new Object[]{id, "subject" + i, "SUBJECT", null, now, now});
+            } else {
+                words.add(new Object[]{id, "object" + i, "OBJECT", null, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO vnest.word (id, text, type, group_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", words);
+
+        // Each row index maps to a distinct (verb, subject, object) triple
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < combinations; i++) {
+            long verbId = 1 + i % VERBS;
+            long subjectId = 1 + VERBS + (i / VERBS) % SUBJECTS;
+            long objectId = 1 + VERBS + SUBJECTS + (i / (VERBS * SUBJECTS)) % OBJECTS;
+            batch.add(new Object[]{i + 1L, subjectId, verbId, objectId, now});
+
+            if (batch.size() == INSERT_BATCH || i == combinations - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO vnest.allowed_combination " +
+                        "(id, subject_id, verb_id, object_id, created_at) VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.service.SyntheticLexiconGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory lexicon of about the given number of unique combinations, from {@link SyntheticLexiconGenerator},
+ * as the tuples and word references the combination graph is compiled from.
+ * <p>
+ * Word IDs are dense: verbs first, then subjects, then objects. The same size always yields the same lexicon.
+ */
+final class SyntheticLexicon {
+
+    private static final long SEED = 42L;
+
+    final int verbs;
+    final int subjects;
+    final int objects;
+    final List<CombinationTuple> combinations;
+    final List<WordReference> words;
+
+    private SyntheticLexicon(int verbs, int subjects, int objects,
+                             List<CombinationTuple> combinations, List<WordReference> words) {
+        this.verbs = verbs;
+        this.subjects = subjects;
+        this.objects = objects;
+        this.combinations = combinations;
+        this.words = words;
+    }
+
+    static SyntheticLexicon of(int combinationCount) {
+        SyntheticLexiconGenerator generator =
+                new SyntheticLexiconGenerator(SyntheticLexiconGenerator.Settings.ofSize(combinationCount, SEED));
+        SyntheticLexiconGenerator.Settings settings = generator.settings();
+        int verbs = settings.verbs();
+        int subjects = settings.subjects();
+        int objects = settings.objects();
+
+        List<CombinationTuple> combinations = new ArrayList<>(combinationCount + combinationCount / 10);
+        generator.forEach((verb, subject, object) -> combinations.add(new CombinationTuple(
+                verb + 1L,
+                subjectId(verbs, subject),
+                objectId(verbs, subjects, object),
+                (long) (verb % settings.groups()) + 1
+        )));
+
+        List<WordReference> words = new ArrayList<>(verbs + subjects + objects);
+        for (int v = 0; v < verbs; v++) {
+            words.add(WordReference.of(v + 1L, generator.verbText(v)));
+        }
+        for (int s = 0; s < subjects; s++) {
+            words.add(WordReference.of(subjectId(verbs, s), generator.subjectText(s)));
+        }
+        for (int o = 0; o < objects; o++) {
+            words.add(WordReference.of(objectId(verbs, subjects, o), generator.objectText(o)));
+        }
+
+        return new SyntheticLexicon(verbs, subjects, objects, List.copyOf(combinations), List.copyOf(words));
+    }
+
+    long verbId(int verb) {
+        return verb + 1L;
+    }
+
+    long subjectId(int subject) {
+        return subjectId(verbs, subject);
+    }
+
+    long objectId(int object) {
+        return objectId(verbs, subjects, object);
+    }
+
+    /**
+     * The combinations of one verb.
+     */
+    List<CombinationTuple> combinationsOfVerb(long verbId) {
+        return combinations.stream().filter(c -> c.verbId() == verbId).toList();
+    }
+
+    private static long subjectId(int verbs, int subject) {
+        return verbs + subject + 1L;
+    }
+
+    private static long objectId(int verbs, int subjects, int object) {
+        return (long) verbs + subjects + object + 1L;
+    }
+}
@@ -0,0 +1,50 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.model.Word;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * {@code AllowedCombination} as it was mapped before pooled ID allocation: one nextval per row.
+ * Only exists for {@link IdAllocationBenchmark}; the table is created by Hibernate next to the real one.
+ */
+@Entity
+@Table(name = "unpooled_combination", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"subject_id", "verb_id", "object_id"})
+})
+public class UnpooledCombination {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "unpooled_combination_seq")
+    @SequenceGenerator(name = "unpooled_combination_seq", sequenceName = "unpooled_combination_id_seq", allocationSize = 1)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subject_id", nullable = false)
+    private Word subject;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "verb_id", nullable = false)
+    private Word verb;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "object_id", nullable = false)
+    private Word object;
+
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt = Instant.now();
+
+    protected UnpooledCombination() {
+    }
+
+    public UnpooledCombination(Word subject, Word verb, Word object) {
+        this.subject = subject;
+        this.verb = verb;
+        this.object = object;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,6 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UnpooledCombinationRepository extends JpaRepository<UnpooledCombination, Long> {
+}
@@ -0,0 +1,86 @@
+package fi.vnest.speechtherapy.api.benchmark;
+
+import fi.vnest.speechtherapy.api.dto.ValidationRequest;
+import fi.vnest.speechtherapy.api.dto.ValidationResponse;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import fi.vnest.speechtherapy.api.service.CombinationIndex;
+import fi.vnest.speechtherapy.api.service.CombinationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sentence validation against a warm combination graph, as done by {@code POST /api/suggestions/validate}
+ * and its batch variant. Every other request is an allowed combination; the rest are random, mostly not allowed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final int REQUESTS = 1_024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int combinations;
+
+    private CombinationGraph graph;
+    private CombinationService combinationService;
+    private ValidationRequest[] requests;
+    private List<ValidationRequest> batch;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticLexicon lexicon = SyntheticLexicon.of(combinations);
+        graph = CombinationGraph.compile(lexicon.combinations, lexicon.words);
+
+        // Only the index is used on the validation path
+        CombinationIndex index = new CombinationIndex(null, null) {
+            @Override
+            public CombinationGraph current() {
+                return graph;
+            }
+        };
+        combinationService = new CombinationService(null, null, null, index, null);
+
+        SplittableRandom random = new SplittableRandom(42);
+        requests = new ValidationRequest[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            if (i % 2 == 0) {
+                var combination = lexicon.combinations.get(random.nextInt(lexicon.combinations.size()));
+                requests[i] = new ValidationRequest(combination.subjectId(), combination.verbId(), combination.objectId());
+            } else {
+                requests[i] = new ValidationRequest(
+                        lexicon.subjectId(random.nextInt(lexicon.subjects)),
+                        lexicon.verbId(random.nextInt(lexicon.verbs)),
+                        lexicon.objectId(random.nextInt(lexicon.objects)));
+            }
+        }
+        batch = new ArrayList<>(List.of(requests).subList(0, 100));
+    }
+
+    @Benchmark
+    public boolean contains() {
+        ValidationRequest request = nextRequest();
+        return graph.contains(request.subjectId(), request.verbId(), request.objectId());
+    }
+
+    @Benchmark
+    public ValidationResponse validateCombination() {
+        return combinationService.validateCombination(nextRequest());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<ValidationResponse> validateBatchOf100() {
+        return combinationService.validateCombinations(batch);
+    }
+
+    private ValidationRequest nextRequest() {
+        next = (next + 1) & (REQUESTS - 1);
+        return requests[next];
+    }
+}
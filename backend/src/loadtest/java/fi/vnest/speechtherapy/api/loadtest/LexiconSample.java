@@ -0,0 +1,88 @@
+package fi.vnest.speechtherapy.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Word IDs of the seeded lexicon, read back from {@code /api/suggestions} so the requests use real IDs.
+ * A validation pairs a verb with one of its compatible subjects and objects, which is an allowed
+ * combination for most verbs and a realistic near miss otherwise.
+ */
+final class LexiconSample {
+
+    record Verb(long id, long[] subjectIds, long[] objectIds) {
+    }
+
+    private final List<Verb> verbs;
+
+    private LexiconSample(List<Verb> verbs) {
+        this.verbs = verbs;
+    }
+
+    static LexiconSample fromSuggestions(ObjectMapper objectMapper, byte[] body) throws IOException {
+        JsonNode data = objectMapper.readTree(body).path("data");
+
+        List<Verb> verbs = new ArrayList<>();
+        for (JsonNode verb : data.path("verbs")) {
+            verbs.add(new Verb(
+                    verb.path("id").asLong(),
+                    ids(verb.path("compatible_subject_ids")),
+                    ids(verb.path("compatible_object_ids"))
+            ));
+        }
+        if (verbs.isEmpty()) {
+            throw new IllegalStateException("The seeded lexicon has no verbs");
+        }
+        return new LexiconSample(List.copyOf(verbs));
+    }
+
+    int verbCount() {
+        return verbs.size();
+    }
+
+    Verb randomVerb(SplittableRandom random) {
+        return verbs.get(random.nextInt(verbs.size()));
+    }
+
+    /**
+     * A {@code ValidationRequest} as JSON.
+     */
+    String randomValidation(SplittableRandom random) {
+        Verb verb = randomVerb(random);
+        return String.format("{\"subject_id\":%d,\"verb_id\":%d,\"object_id\":%d}",
+                pick(verb.subjectIds(), random), verb.id(), pick(verb.objectIds(), random));
+    }
+
+    /**
+     * A {@code CombinationBatchRequest} as JSON, crossing {@code size} subjects with {@code size} objects
+     * taken from other verbs, so some of the combinations are new.
+     */
+    String randomBatch(SplittableRandom random, int size) {
+        Verb verb = randomVerb(random);
+        StringBuilder subjects = new StringBuilder();
+        StringBuilder objects = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            String separator = i > 0 ? "," : "";
+            subjects.append(separator).append(pick(randomVerb(random).subjectIds(), random));
+            objects.append(separator).append(pick(randomVerb(random).objectIds(), random));
+        }
+        return String.format("{\"verb_id\":%d,\"subject_ids\":[%s],\"object_ids\":[%s]}", verb.id(), subjects, objects);
+    }
+
+    private static long pick(long[] ids, SplittableRandom random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static long[] ids(JsonNode array) {
+        long[] ids = new long[array.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = array.get(i).asLong();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,96 @@
+package fi.vnest.speechtherapy.api.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Totals of the same load test run against each threading mode, written as {@code comparison.json} and
+ * {@code comparison.html} next to the per-mode reports.
+ */
+record LoadComparison(
+        Map<String, Object> config,
+        List<Entry> modes
+) {
+
+    /**
+     * Totals of one mode, with throughput relative to the first mode.
+     */
+    record Entry(
+            String threading,
+            LoadReport.Stats total,
+            @JsonProperty("relative_throughput") double relativeThroughput
+    ) {
+    }
+
+    static LoadComparison of(Map<String, Object> config, Map<String, LoadReport> reports) {
+        List<Entry> modes = new ArrayList<>();
+        double baseline = 0;
+        for (Map.Entry<String, LoadReport> report : reports.entrySet()) {
+            LoadReport.Stats total = report.getValue().total();
+            if (modes.isEmpty()) {
+                baseline = total.throughput();
+            }
+            double relative = baseline > 0 ? Math.round(total.throughput() / baseline * 100.0) / 100.0 : 0;
+            modes.add(new Entry(report.getKey(), total, relative));
+        }
+        return new LoadComparison(config, modes);
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("comparison.json").toFile(), this);
+        Files.writeString(directory.resolve("comparison.html"), html(), StandardCharsets.UTF_8);
+    }
+
+    void print() {
+        System.out.printf("%-10s %10s %8s %12s %9s %9s %9s %9s %9s%n",
+                "threading", "requests", "errors", "req/s", "relative", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Entry entry : modes) {
+            LoadReport.Stats total = entry.total();
+            System.out.printf("%-10s %10d %8d %12.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.threading(),
+                    total.requests(), total.errors(), total.throughput(), entry.relativeThroughput(),
+                    total.p50(), total.p99(), total.p999(), total.max());
+        }
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n")
+                .append("<title>Load test comparison</title>\n")
+                .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}")
+                .append("th,td{border:1px solid #ccc;padding:4px 10px;text-align:right}")
+                .append("th:first-child,td:first-child{text-align:left}</style>\n")
+                .append("</head>\n<body>\n<h1>Load test comparison</h1>\n");
+
+        html.append("<table>\n<tr><th>Threading</th><th>Requests</th><th>Errors</th><th>Throughput (req/s)</th>")
+                .append("<th>Relative</th><th>p50 (ms)</th><th>p99</th><th>p99.9</th><th>Max</th></tr>\n");
+        for (Entry entry : modes) {
+            LoadReport.Stats total = entry.total();
+            html.append("<tr><td><a href=\"").append(entry.threading()).append("/results.html\">")
+                    .append(entry.threading()).append("</a></td>");
+            for (Object value : List.of(total.requests(), total.errors(), total.throughput(),
+                    entry.relativeThroughput(), total.p50(), total.p99(), total.p999(), total.max())) {
+                html.append("<td>").append(value instanceof Double d ? LoadReport.format(d) : value).append("</td>");
+            }
+            html.append("</tr>\n");
+        }
+        html.append("</table>\n");
+
+        html.append("<h2>Configuration</h2>\n<table>\n");
+        config.forEach((key, value) -> html.append("<tr><td>").append(LoadReport.escape(key)).append("</td><td>")
+                .append(LoadReport.escape(String.valueOf(value))).append("</td></tr>\n"));
+        html.append("</table>\n</body>\n</html>\n");
+        return html.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package fi.vnest.speechtherapy.api.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Results of one measured run, written as {@code results.json} for comparing runs and
+ * {@code results.html} for reading.
+ */
+record LoadReport(
+        @JsonProperty("started_at") String startedAt,
+        Map<String, Object> config,
+        @JsonProperty("duration_seconds") double durationSeconds,
+        Stats total,
+        List<Stats> scenarios
+) {
+
+    /**
+     * Throughput and latency of one scenario, or of all of them together. Latencies are in milliseconds.
+     */
+    record Stats(
+            String name,
+            long requests,
+            long errors,
+            @JsonProperty("throughput_rps") double throughput,
+            double mean,
+            double p50,
+            double p95,
+            double p99,
+            double p999,
+            double max
+    ) {
+
+        static Stats of(String name, Histogram micros, long errors, double seconds) {
+            return new Stats(
+                    name,
+                    micros.getTotalCount(),
+                    errors,
+                    round(micros.getTotalCount() / seconds),
+                    millis(micros.getMean()),
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(95)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue())
+            );
+        }
+
+        private static double millis(double micros) {
+            return round(micros / 1_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100.0) / 100.0;
+        }
+    }
+
+    static LoadReport of(Instant startedAt, Map<String, Object> config, double seconds,
+                         Map<Scenario, Histogram> histograms, Map<Scenario, Long> errors) {
+        Histogram all = new Histogram(LoadTest.HIGHEST_TRACKABLE_MICROS, 3);
+        long allErrors = 0;
+        List<Stats> scenarios = new ArrayList<>();
+        for (Map.Entry<Scenario, Histogram> entry : histograms.entrySet()) {
+            long scenarioErrors = errors.getOrDefault(entry.getKey(), 0L);
+            scenarios.add(Stats.of(entry.getKey().label(), entry.getValue(), scenarioErrors, seconds));
+            all.add(entry.getValue());
+            allErrors += scenarioErrors;
+        }
+
+        return new LoadReport(startedAt.toString(), new LinkedHashMap<>(config), seconds,
+                Stats.of("total", all, allErrors, seconds), scenarios);
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("results.json").toFile(), this);
+        Files.writeString(directory.resolve("results.html"), html(), StandardCharsets.UTF_8);
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n")
+                .append("<title>Load test ").append(escape(startedAt)).append("</title>\n")
+                .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}")
+                .append("th,td{border:1px solid #ccc;padding:4px 10px;text-align:right}")
+                .append("th:first-child,td:first-child{text-align:left}tr.total{font-weight:bold}</style>\n")
+                .append("</head>\n<body>\n<h1>Load test</h1>\n<p>Started ").append(escape(startedAt))
+                .append(", measured for ").append(format(durationSeconds)).append(" s.</p>\n");
+
+        html.append("<table>\n<tr><th>Scenario</th><th>Requests</th><th>Errors</th><th>Throughput (req/s)</th>")
+                .append("<th>Mean (ms)</th><th>p50</th><th>p95</th><th>p99</th><th>p99.9</th><th>Max</th></tr>\n");
+        for (Stats stats : scenarios) {
+            row(html, stats, "");
+        }
+        row(html, total, " class=\"total\"");
+        html.append("</table>\n");
+
+        html.append("<h2>Configuration</h2>\n<table>\n");
+        config.forEach((key, value) -> html.append("<tr><td>").append(escape(key)).append("</td><td>")
+                .append(escape(String.valueOf(value))).append("</td></tr>\n"));
+        html.append("</table>\n</body>\n</html>\n");
+        return html.toString();
+    }
+
+    private static void row(StringBuilder html, Stats stats, String attributes) {
+        html.append("<tr").append(attributes).append("><td>").append(escape(stats.name())).append("</td>");
+        for (Object value : List.of(stats.requests(), stats.errors(), stats.throughput(), stats.mean(),
+                stats.p50(), stats.p95(), stats.p99(), stats.p999(), stats.max())) {
+            html.append("<td>").append(value instanceof Double d ? format(d) : value).append("</td>");
+        }
+        html.append("</tr>\n");
+    }
+
+    static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
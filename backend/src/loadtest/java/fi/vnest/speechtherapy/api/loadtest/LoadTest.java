@@ -0,0 +1,339 @@
+package fi.vnest.speechtherapy.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.ApiApplication;
+import fi.vnest.speechtherapy.api.loadtest.LoadTestConfig.Threading;
+import fi.vnest.speechtherapy.api.service.LexiconImportReport;
+import fi.vnest.speechtherapy.api.service.LexiconImporter;
+import fi.vnest.speechtherapy.api.service.SyntheticLexiconGenerator;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Starts the API on an in-memory H2 database in PostgreSQL mode, seeds it with a synthetic lexicon and drives
+ * a weighted mix of requests from closed-loop client threads. Reports throughput and latency percentiles per
+ * scenario as JSON and HTML.
+ * <p>
+ * {@code ./gradlew loadTest -Dloadtest.threads=64 -Dloadtest.duration=60 -Dloadtest.mix=suggestions=50,validate=50}
+ * <p>
+ * With {@code -Dloadtest.threading=platform,virtual} the run is repeated against a server on platform and on
+ * virtual request threads, with the same Hikari pool, and the totals are compared side by side.
+ * <p>
+ * See {@link LoadTestConfig} for all settings.
+ */
+public final class LoadTest {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private static final String ADMIN_EMAIL = "loadtest@example.com";
+    private static final String ADMIN_PASSWORD = "loadtest";
+    private static final int GROUPS = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        if (config.threading().size() == 1) {
+            LoadReport report = measure(config, config.threading().get(0));
+            report.write(config.outputDir());
+            System.out.println("Results written to " + config.outputDir().toAbsolutePath());
+            return;
+        }
+
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        for (Threading threading : config.threading()) {
+            LoadReport report = measure(config, threading);
+            report.write(config.outputDir().resolve(threading.label()));
+            reports.put(threading.label(), report);
+        }
+        Map<String, Object> shared = new LinkedHashMap<>(reports.values().iterator().next().config());
+        shared.remove("server_threads");
+        LoadComparison comparison = LoadComparison.of(shared, reports);
+        comparison.write(config.outputDir());
+        comparison.print();
+        System.out.println("Results written to " + config.outputDir().toAbsolutePath());
+    }
+
+    /**
+     * Starts a fresh server with the given threading, seeds it, warms it up and measures one run.
+     */
+    private static LoadReport measure(LoadTestConfig config, Threading threading) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try (ConfigurableApplicationContext context = start(config, threading)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            seed(context.getBean(LexiconImporter.class), config);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+            if (config.mix().keySet().stream().anyMatch(Scenario::requiresLogin)) {
+                login(client, baseUri);
+            }
+
+            HttpResponse<byte[]> suggestions = client.send(
+                    HttpRequest.newBuilder(baseUri.resolve("/api/suggestions")).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            LexiconSample lexicon = LexiconSample.fromSuggestions(objectMapper, suggestions.body());
+            Scenario.Target target = new Scenario.Target(baseUri, lexicon);
+
+            System.out.printf("[%s threads] Warming up for %d s with %d clients...%n",
+                    threading.label(), config.warmup().toSeconds(), config.threads());
+            run(client, target, config, config.warmup(), config.seed());
+
+            System.out.printf("[%s threads] Measuring for %d s...%n", threading.label(), config.duration().toSeconds());
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            Run measured = run(client, target, config, config.duration(), config.seed() + config.threads());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            LoadReport report = LoadReport.of(startedAt, describe(config, threading, lexicon), seconds,
+                    measured.histograms(), measured.errors());
+            print(report, measured);
+            return report;
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestConfig config, Threading threading) {
+        // Command-line arguments take precedence over application.properties
+        String[] args = {
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + (threading == Threading.VIRTUAL),
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + threading.label() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH;IGNORE_UNKNOWN_SETTINGS=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS vnest",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=" + config.poolSize(),
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.enabled=false",
+                "--app.data.csv.enabled=false",
+                "--app.startup.background=false",
+                "--app.users=" + ADMIN_EMAIL + ":" + ADMIN_PASSWORD + ":Load Test:ADMIN",
+                "--server.servlet.session.timeout=30m",
+                "--logging.level.root=WARN"
+        };
+        return new SpringApplicationBuilder(ApiApplication.class).run(args);
+    }
+
+    /**
+     * Imports a generated lexicon of about the configured size through the regular CSV importer.
+     */
+    private static void seed(LexiconImporter importer, LoadTestConfig config) throws IOException {
+        double possible = (double) config.verbs() * config.subjects() * config.objects();
+        SyntheticLexiconGenerator generator = new SyntheticLexiconGenerator(new SyntheticLexiconGenerator.Settings(
+                GROUPS, config.verbs(), config.subjects(), config.objects(),
+                Math.min(1.0, config.combinations() / possible), config.seed()));
+
+        long start = System.nanoTime();
+        LexiconImportReport report = importer.importCsv(generator.reader());
+        System.out.printf("Seeded %d words and %d combinations in %d ms%n", report.wordsCreated(),
+                report.combinationsCreated(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static void login(HttpClient client, URI baseUri) throws IOException, InterruptedException {
+        String form = "email=" + URLEncoder.encode(ADMIN_EMAIL, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(ADMIN_PASSWORD, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Admin login failed: " + response.statusCode() + " " + location);
+        }
+    }
+
+    private static Run run(HttpClient client, Scenario.Target target, LoadTestConfig config,
+                           Duration length, long seed) throws InterruptedException {
+        Mix mix = new Mix(config.mix());
+        long deadline = System.nanoTime() + length.toNanos();
+
+        List<Callable<Worker>> workers = new ArrayList<>();
+        for (int i = 0; i < config.threads(); i++) {
+            Worker worker = new Worker(client, target, mix, new SplittableRandom(seed + i));
+            workers.add(() -> worker.run(deadline));
+        }
+
+        // Clients are virtual threads in every mode, so thousands of them only cost memory
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Run run = new Run(config.mix().keySet());
+            for (Future<Worker> future : executor.invokeAll(workers)) {
+                run.add(future.get());
+            }
+            return run;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load test worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> describe(LoadTestConfig config, Threading threading, LexiconSample lexicon) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("server_threads", threading.label());
+        description.put("threads", config.threads());
+        description.put("warmup_seconds", config.warmup().toSeconds());
+        description.put("duration_seconds", config.duration().toSeconds());
+        description.put("mix", config.mix().entrySet().stream()
+                .map(entry -> entry.getKey().label() + "=" + entry.getValue())
+                .collect(Collectors.joining(",")));
+        description.put("verbs", lexicon.verbCount());
+        description.put("subjects", config.subjects());
+        description.put("objects", config.objects());
+        description.put("combinations", config.combinations());
+        description.put("seed", config.seed());
+        description.put("pool_size", config.poolSize());
+        description.put("java_version", Runtime.version().toString());
+        description.put("processors", Runtime.getRuntime().availableProcessors());
+        return description;
+    }
+
+    private static void print(LoadReport report, Run run) {
+        System.out.printf("%-18s %10s %8s %12s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms");
+        List<LoadReport.Stats> rows = new ArrayList<>(report.scenarios());
+        rows.add(report.total());
+        for (LoadReport.Stats stats : rows) {
+            System.out.printf("%-18s %10d %8d %12.1f %9.2f %9.2f %9.2f %9.2f%n", stats.name(), stats.requests(),
+                    stats.errors(), stats.throughput(), stats.p50(), stats.p95(), stats.p99(), stats.p999());
+        }
+        run.firstErrors().forEach((scenario, error) ->
+                System.out.printf("First %s error: %s%n", scenario.label(), error));
+    }
+
+    /**
+     * Picks scenarios in proportion to their weights.
+     */
+    private static final class Mix {
+
+        private final Scenario[] scenarios;
+        private final int[] cumulativeWeights;
+
+        Mix(Map<Scenario, Integer> weights) {
+            scenarios = weights.keySet().toArray(Scenario[]::new);
+            cumulativeWeights = new int[scenarios.length];
+            int sum = 0;
+            for (int i = 0; i < scenarios.length; i++) {
+                sum += weights.get(scenarios[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        Scenario pick(SplittableRandom random) {
+            int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return scenarios[i];
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * One closed-loop client: sends the next request as soon as the previous response has been read.
+     */
+    private static final class Worker {
+
+        private final HttpClient client;
+        private final Scenario.Target target;
+        private final Mix mix;
+        private final SplittableRandom random;
+        private final Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+        private final Map<Scenario, Long> errors = new EnumMap<>(Scenario.class);
+        private final Map<Scenario, String> firstErrors = new EnumMap<>(Scenario.class);
+
+        Worker(HttpClient client, Scenario.Target target, Mix mix, SplittableRandom random) {
+            this.client = client;
+            this.target = target;
+            this.mix = mix;
+            this.random = random;
+        }
+
+        Worker run(long deadline) throws InterruptedException {
+            while (System.nanoTime() < deadline) {
+                Scenario scenario = mix.pick(random);
+                HttpRequest request = scenario.request(target, random);
+
+                String error = null;
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        error = "HTTP " + response.statusCode() + " from " + request.uri();
+                    }
+                } catch (IOException e) {
+                    error = e.toString();
+                }
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+                histograms.computeIfAbsent(scenario, s -> new Histogram(HIGHEST_TRACKABLE_MICROS, 3))
+                        .recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                if (error != null) {
+                    errors.merge(scenario, 1L, Long::sum);
+                    firstErrors.putIfAbsent(scenario, error);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * The merged results of all workers.
+     */
+    private record Run(Map<Scenario, Histogram> histograms, Map<Scenario, Long> errors,
+                       Map<Scenario, String> firstErrors) {
+
+        Run(Iterable<Scenario> scenarios) {
+            this(new EnumMap<>(Scenario.class), new EnumMap<>(Scenario.class), new EnumMap<>(Scenario.class));
+            for (Scenario scenario : scenarios) {
+                histograms.put(scenario, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+            }
+        }
+
+        void add(Worker worker) {
+            worker.histograms.forEach((scenario, histogram) -> histograms.get(scenario).add(histogram));
+            worker.errors.forEach((scenario, count) -> errors.merge(scenario, count, Long::sum));
+            worker.firstErrors.forEach(firstErrors::putIfAbsent);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package fi.vnest.speechtherapy.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties (the Gradle task passes them through).
+ *
+ * @param threads      Concurrent closed-loop clients.
+ * @param warmup       Time spent warming up the JVM and caches; not measured.
+ * @param duration     Measured run time.
+ * @param mix          Relative weight of each scenario; scenarios with weight 0 are not run.
+ * @param verbs        Verbs in the synthetic lexicon.
+ * @param subjects     Subjects in the synthetic lexicon.
+ * @param objects      Objects in the synthetic lexicon.
+ * @param combinations Allowed combinations in the synthetic lexicon.
+ * @param seed         Seed for the lexicon and for the request streams.
+ * @param poolSize     Maximum size of the Hikari connection pool of the application under test.
+ * @param threading    How the server handles requests; with more than one mode, each is measured in turn
+ *                     against a fresh server and the results are compared.
+ * @param outputDir    Where results.json and results.html are written.
+ */
+public record LoadTestConfig(
+        int threads,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int verbs,
+        int subjects,
+        int objects,
+        int combinations,
+        long seed,
+        int poolSize,
+        List<Threading> threading,
+        Path outputDir
+) {
+
+    static final String DEFAULT_MIX =
+            "suggestions=30,suggestions-verb=15,validate=30,validate-batch=5,words=15,admin-batch=5";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.threads", 32),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Integer.getInteger("loadtest.verbs", 200),
+                Integer.getInteger("loadtest.subjects", 1_000),
+                Integer.getInteger("loadtest.objects", 1_000),
+                Integer.getInteger("loadtest.combinations", 100_000),
+                Long.getLong("loadtest.seed", 42L),
+                Integer.getInteger("loadtest.pool-size", 10),
+                parseThreading(System.getProperty("loadtest.threading", "platform")),
+                Path.of(System.getProperty("loadtest.output", "build/reports/loadtest"))
+        );
+    }
+
+    /**
+     * Parses {@code name=weight} pairs separated by commas, e.g. {@code suggestions=80,validate=20}.
+     */
+    static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String pair : mix.split(",")) {
+            String[] parts = pair.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + pair + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            if (weight > 0) {
+                weights.put(Scenario.byName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no scenario with a positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * Parses a comma-separated list of threading modes, e.g. {@code platform,virtual}.
+     */
+    static List<Threading> parseThreading(String threading) {
+        List<Threading> modes = new ArrayList<>();
+        for (String name : threading.split(",")) {
+            Threading mode = Threading.byName(name.trim());
+            if (!modes.contains(mode)) {
+                modes.add(mode);
+            }
+        }
+        return List.copyOf(modes);
+    }
+
+    /**
+     * Threads the server under test handles requests on.
+     */
+    enum Threading {
+
+        /**
+         * Tomcat's bounded pool of platform threads (200 by default).
+         */
+        PLATFORM,
+
+        /**
+         * A virtual thread per request ({@code spring.threads.virtual.enabled=true}).
+         */
+        VIRTUAL;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        static Threading byName(String name) {
+            for (Threading threading : values()) {
+                if (threading.label().equals(name)) {
+                    return threading;
+                }
+            }
+            throw new IllegalArgumentException("Unknown threading '" + name + "', expected platform or virtual");
+        }
+    }
+}
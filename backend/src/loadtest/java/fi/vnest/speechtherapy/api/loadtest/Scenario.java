@@ -0,0 +1,107 @@
+package fi.vnest.speechtherapy.api.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+/**
+ * The requests a load test can mix. Each builds a fresh request against the seeded lexicon.
+ */
+public enum Scenario {
+
+    SUGGESTIONS("suggestions") {
+        @Override
+        HttpRequest request(Target target, SplittableRandom random) {
+            return get(target.uri("/api/suggestions")).header("Accept-Encoding", "gzip").build();
+        }
+    },
+    SUGGESTIONS_VERB("suggestions-verb") {
+        @Override
+        HttpRequest request(Target target, SplittableRandom random) {
+            return get(target.uri("/api/suggestions/" + target.lexicon().randomVerb(random).id())).build();
+        }
+    },
+    VALIDATE("validate") {
+        @Override
+        HttpRequest request(Target target, SplittableRandom random) {
+            return post(target.uri("/api/suggestions/validate"), target.lexicon().randomValidation(random));
+        }
+    },
+    VALIDATE_BATCH("validate-batch") {
+        @Override
+        HttpRequest request(Target target, SplittableRandom random) {
+            StringBuilder body = new StringBuilder("{\"combinations\":[");
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append(target.lexicon().randomValidation(random));
+            }
+            body.append("]}");
+            return post(target.uri("/api/suggestions/validate/batch"), body.toString());
+        }
+    },
+    WORDS("words") {
+        @Override
+        HttpRequest request(Target target, SplittableRandom random) {
+            return get(target.uri("/api/words")).build();
+        }
+    },
+    ADMIN_BATCH("admin-batch") {
+        @Override
+        HttpRequest request(Target target, SplittableRandom random) {
+            return post(target.uri("/admin/combinations/batch"), target.lexicon().randomBatch(random, 3));
+        }
+    };
+
+    static final int BATCH_SIZE = 20;
+
+    private final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    abstract HttpRequest request(Target target, SplittableRandom random);
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Whether the scenario needs the admin session cookie.
+     */
+    boolean requiresLogin() {
+        return this == ADMIN_BATCH;
+    }
+
+    static Scenario byName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.label.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + name + "'");
+    }
+
+    private static HttpRequest.Builder get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET();
+    }
+
+    private static HttpRequest post(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /**
+     * Where requests go and which word IDs they use.
+     */
+    record Target(URI baseUri, LexiconSample lexicon) {
+
+        URI uri(String path) {
+            return baseUri.resolve(path);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package fi.vnest.speechtherapy.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded in-memory caches for word and group lookups.
+ * Size, TTL and statistics come from a Caffeine spec (app.cache.spec). Hit, miss and eviction
+ * counts are published as cache.* metrics through the actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String WORDS = "words";
+    public static final String WORD_BY_ID = "wordById";
+    public static final String GROUPS = "groups";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(WORDS, WORD_BY_ID, GROUPS);
+        caffeine.setCacheSpecification(spec);
+        // Defer puts to after commit, so a read inside a write cannot cache uncommitted rows. Evictions are not
+        // made through this proxy: WordService invalidates the caches from its LexiconChangedEvent listener, ordered
+        // before the new lexicon version is published.
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,33 @@
+package fi.vnest.speechtherapy.api.config;
+
+import fi.vnest.speechtherapy.api.dto.InitializationResponse;
+import fi.vnest.speechtherapy.api.service.StartupInitializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/initialization}: state and timing of the background startup phases.
+ */
+@Component
+@Endpoint(id = "initialization")
+public class InitializationEndpoint {
+
+    private final StartupInitializer startupInitializer;
+
+    @Autowired
+    public InitializationEndpoint(StartupInitializer startupInitializer) {
+        this.startupInitializer = startupInitializer;
+    }
+
+    @ReadOperation
+    public InitializationResponse initialization() {
+        return new InitializationResponse(
+                startupInitializer.isComplete(),
+                startupInitializer.startedAt(),
+                startupInitializer.totalMillis(),
+                startupInitializer.phases()
+        );
+    }
+}
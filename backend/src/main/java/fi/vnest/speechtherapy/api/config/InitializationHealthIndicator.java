@@ -0,0 +1,38 @@
+package fi.vnest.speechtherapy.api.config;
+
+import fi.vnest.speechtherapy.api.service.StartupInitializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE until the background startup phases have finished, and DOWN as soon as one of them
+ * has failed, e.g. when the lexicon import could not run, so the instance never takes traffic without its data.
+ * Part of the readiness group only, so liveness is green as soon as the server is up.
+ */
+@Component
+public class InitializationHealthIndicator implements HealthIndicator {
+
+    private final StartupInitializer startupInitializer;
+
+    @Autowired
+    public InitializationHealthIndicator(StartupInitializer startupInitializer) {
+        this.startupInitializer = startupInitializer;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        if (startupInitializer.hasFailed()) {
+            builder = Health.down();
+        } else if (startupInitializer.isComplete()) {
+            builder = Health.up();
+        } else {
+            builder = Health.outOfService();
+        }
+        return builder
+                .withDetail("phases", startupInitializer.phases())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package fi.vnest.speechtherapy.api.config;
+
+/**
+ * Per-thread running totals of the JDBC statements executed through {@link StatementCountingDataSource}
+ * and the time spent executing them.
+ * Callers take a {@link Snapshot} before a unit of work and subtract it afterwards, so measurements
+ * can nest, e.g. a request inside a test.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> TOTALS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Counts one executed statement (or batch) on the current thread.
+     */
+    static void record(long nanos) {
+        long[] totals = TOTALS.get();
+        totals[0]++;
+        totals[1] += nanos;
+    }
+
+    /**
+     * The totals of the current thread so far.
+     */
+    public static Snapshot snapshot() {
+        long[] totals = TOTALS.get();
+        return new Snapshot(totals[0], totals[1]);
+    }
+
+    /**
+     * Statement count and execution time, either running totals or the difference of two snapshots.
+     */
+    public record Snapshot(long statements, long nanos) {
+
+        /**
+         * What was executed between {@code start} and this snapshot.
+         */
+        public Snapshot since(Snapshot start) {
+            return new Snapshot(statements - start.statements, nanos - start.nanos);
+        }
+
+        public double millis() {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
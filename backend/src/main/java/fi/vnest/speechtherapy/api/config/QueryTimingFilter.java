@@ -0,0 +1,150 @@
+package fi.vnest.speechtherapy.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the JDBC statements each request ran on its thread, as counted by {@link QueryCounter}:
+ * <ul>
+ *     <li>in a {@code Server-Timing: db;dur=<ms>;desc="statements: <n>"} response header, covering the
+ *     statements run before the body starts, as the header cannot be added later;</li>
+ *     <li>in the {@code http.server.requests.jdbc.statements} summary and {@code http.server.requests.jdbc.time}
+ *     timer, tagged by method and route template like {@code http.server.requests}.</li>
+ * </ul>
+ * Work done on other threads, such as streamed NDJSON bodies, is not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+    static final String STATEMENTS_METRIC = "http.server.requests.jdbc.statements";
+    static final String TIME_METRIC = "http.server.requests.jdbc.time";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Autowired
+    public QueryTimingFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.Snapshot start = QueryCounter.snapshot();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, start);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.addServerTiming();
+            record(request, QueryCounter.snapshot().since(start));
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter.Snapshot used) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("JDBC statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(used.statements());
+        Timer.builder(TIME_METRIC)
+                .description("Time spent executing JDBC statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(used.nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    static String serverTiming(QueryCounter.Snapshot used) {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"statements: %d\"", used.millis(), used.statements());
+    }
+
+    /**
+     * Adds the header just before the response is committed.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final QueryCounter.Snapshot start;
+        private final Thread requestThread = Thread.currentThread();
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, QueryCounter.Snapshot start) {
+            super(response);
+            this.start = start;
+        }
+
+        void addServerTiming() {
+            // The counts are per thread, so async writers leave the header to the request thread
+            if (added || Thread.currentThread() != requestThread || isCommitted()) {
+                return;
+            }
+            added = true;
+            addHeader(SERVER_TIMING, serverTiming(QueryCounter.snapshot().since(start)));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
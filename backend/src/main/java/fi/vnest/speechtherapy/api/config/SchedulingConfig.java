@@ -0,0 +1,12 @@
+package fi.vnest.speechtherapy.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, such as the lexicon version poll of {@code LexiconVersionService}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
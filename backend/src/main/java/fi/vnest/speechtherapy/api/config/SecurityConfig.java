@@ -7,6 +7,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -15,11 +19,14 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -31,6 +38,10 @@ public class SecurityConfig {
     @Value("${cors.allowed.origins:http://localhost:8081,http://localhost:19002}")
     private String allowedOrigins;
 
+    // Comma-separated addresses or CIDR ranges whose requests may read /actuator/prometheus without logging in
+    @Value("${app.metrics.scraper-addresses:}")
+    private String scraperAddresses;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -40,8 +51,10 @@ public class SecurityConfig {
                         .requestMatchers("/login", "/error").permitAll()
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/*.css", "/*.js").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/**").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/suggestions/validate").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/suggestions/validate", "/api/suggestions/validate/batch").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").access(scraperOrAdmin())
                         .requestMatchers("/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -75,6 +88,24 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Grants access to requests from a configured scraper address, and to admins from anywhere.
+     * Nothing is trusted by address unless {@code app.metrics.scraper-addresses} is set.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> scraperOrAdmin() {
+        List<IpAddressMatcher> scrapers = Arrays.stream(scraperAddresses.split(","))
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+
+        AuthorizationManager<RequestAuthorizationContext> scraper = (authentication, context) -> {
+            String remoteAddress = context.getRequest().getRemoteAddr();
+            return new AuthorizationDecision(scrapers.stream().anyMatch(matcher -> matcher.matches(remoteAddress)));
+        };
+        return AuthorizationManagers.anyOf(scraper, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder(12);
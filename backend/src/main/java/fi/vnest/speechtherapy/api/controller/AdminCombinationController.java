@@ -2,6 +2,7 @@ package fi.vnest.speechtherapy.api.controller;
 
 import fi.vnest.speechtherapy.api.dto.*;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.service.CombinationBatchResult;
 import fi.vnest.speechtherapy.api.service.CombinationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -63,13 +64,14 @@ public class AdminCombinationController {
     public ResponseEntity<ApiResponse<?>> createCombinationsBatch(
             @Parameter(description = "Batch creation request")
             @RequestBody @Valid CombinationBatchRequest batchRequest) {
-        List<AllowedCombination> createdCombinations = combinationService.createCombinationsBatch(batchRequest);
-        List<CombinationResponse> responseList = createdCombinations.stream()
+        CombinationBatchResult result = combinationService.createCombinationsBatch(batchRequest);
+        List<CombinationResponse> responseList = result.created().stream()
                 .map(CombinationResponse::fromEntity)
                 .collect(Collectors.toList());
 
         CombinationBatchResponse bulkResponse = new CombinationBatchResponse(
                 responseList.size(),
+                result.skipped(),
                 responseList
         );
 
@@ -81,16 +83,16 @@ public class AdminCombinationController {
             description = "Deletes a specific combination (requires ADMIN role)"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "204",
-            description = "Combination deleted successfully"
+            responseCode = "200",
+            description = "Combination deleted successfully; data.deleted is the number of removed rows",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
     )
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteCombination(
+    public ResponseEntity<ApiResponse<CombinationDeleteResponse>> deleteCombination(
             @Parameter(description = "Combination ID", example = "1")
             @PathVariable Long id) {
-        combinationService.deleteCombination(id);
-        // Return 204 No Content for successful deletion
-        return new ResponseEntity<>(new ApiResponse<>(true, null), HttpStatus.NO_CONTENT);
+        int deleted = combinationService.deleteCombination(id);
+        return ResponseEntity.ok(new ApiResponse<>(true, new CombinationDeleteResponse(deleted)));
     }
 
     @Operation(
@@ -98,16 +100,32 @@ public class AdminCombinationController {
             description = "Deletes all combinations for a specific verb (requires ADMIN role)"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "204",
-            description = "Combinations deleted successfully"
+            responseCode = "200",
+            description = "Combinations deleted successfully; data.deleted is the number of removed rows",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
     )
     @DeleteMapping("/by-verb/{verb_id}")
-    public ResponseEntity<ApiResponse<Void>> deleteCombinationsByVerb(
+    public ResponseEntity<ApiResponse<CombinationDeleteResponse>> deleteCombinationsByVerb(
             @Parameter(description = "Verb ID", example = "1")
             @PathVariable Long verb_id) {
-        combinationService.deleteCombinationsByVerb(verb_id);
-        // Return 204 No Content for successful deletion
-        return new ResponseEntity<>(new ApiResponse<>(true, null), HttpStatus.NO_CONTENT);
+        int deleted = combinationService.deleteCombinationsByVerb(verb_id);
+        return ResponseEntity.ok(new ApiResponse<>(true, new CombinationDeleteResponse(deleted)));
     }
 
+    @Operation(
+            summary = "Delete combinations by ID",
+            description = "Deletes the listed combinations in a single statement; unknown IDs are ignored (requires ADMIN role)"
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Combinations deleted successfully; data.deleted is the number of removed rows",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+    )
+    @PostMapping("/delete")
+    public ResponseEntity<ApiResponse<CombinationDeleteResponse>> deleteCombinations(
+            @Parameter(description = "IDs of the combinations to delete")
+            @RequestBody @Valid CombinationDeleteRequest request) {
+        int deleted = combinationService.deleteCombinations(request.getIds());
+        return ResponseEntity.ok(new ApiResponse<>(true, new CombinationDeleteResponse(deleted)));
+    }
 }
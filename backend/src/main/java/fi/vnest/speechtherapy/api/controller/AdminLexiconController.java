@@ -0,0 +1,129 @@
+package fi.vnest.speechtherapy.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.LexiconImportProgress;
+import fi.vnest.speechtherapy.api.dto.LexiconImportResponse;
+import fi.vnest.speechtherapy.api.service.LexiconImportReport;
+import fi.vnest.speechtherapy.api.service.LexiconImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Admin endpoint for replacing the lexicon from a CSV file in the DataInitializer format.
+ */
+@RestController
+@RequestMapping("/admin/lexicon")
+@Tag(name = "Admin - Lexicon", description = "Admin API for bulk lexicon imports (requires ADMIN role)")
+public class AdminLexiconController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminLexiconController.class);
+
+    private final LexiconImporter lexiconImporter;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AdminLexiconController(LexiconImporter lexiconImporter, ObjectMapper objectMapper) {
+        this.lexiconImporter = lexiconImporter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+            summary = "Import lexicon CSV",
+            description = "Synchronizes the lexicon with an uploaded SECTION;SUBJECT;VERB;OBJECT file: missing groups, " +
+                    "words and combinations are added and combinations not in the file are deleted. " +
+                    "Send 'Accept: application/x-ndjson' to receive one progress line per stage, followed by " +
+                    "the summary as the last line (requires ADMIN role)"
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Import finished",
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class)),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = LexiconImportProgress.class))
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "No file or an empty file was uploaded"
+    )
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importLexicon(
+            @Parameter(description = "CSV file in the SECTION;SUBJECT;VERB;OBJECT format, with a header line")
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader HttpHeaders headers) throws IOException {
+
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Uploaded file is empty"));
+        }
+
+        if (acceptsNdjson(headers)) {
+            return streamImport(file);
+        }
+
+        try (BufferedReader reader = open(file)) {
+            LexiconImportReport report = lexiconImporter.importCsv(reader);
+            return ResponseEntity.ok(new ApiResponse<>(true, LexiconImportResponse.fromReport(report)));
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamImport(MultipartFile file) {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream);
+                 BufferedReader reader = open(file)) {
+
+                ApiResponse<?> summary;
+                try {
+                    LexiconImportReport report = lexiconImporter.importCsv(reader, progress -> {
+                        try {
+                            writer.write(progress);
+                            writer.flush();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    summary = new ApiResponse<>(true, LexiconImportResponse.fromReport(report));
+                } catch (RuntimeException e) {
+                    // The 200 status is already sent, so the failure is reported in the last line instead
+                    logger.error("Lexicon import failed", e);
+                    summary = new ApiResponse<>(false, "Import failed and was rolled back: " + e.getMessage());
+                }
+                writer.write(summary);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private BufferedReader open(MultipartFile file) throws IOException {
+        return new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private boolean acceptsNdjson(HttpHeaders headers) {
+        return headers.getAccept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+}
@@ -1,18 +1,28 @@
 package fi.vnest.speechtherapy.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import fi.vnest.speechtherapy.api.dto.*;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
 import fi.vnest.speechtherapy.api.service.CombinationService;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,33 +35,72 @@ import java.util.stream.Collectors;
 @Tag(name = "Combinations", description = "API for retrieving valid word combinations (Subject-Verb-Object)")
 public class CombinationController {
 
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final CombinationService combinationService;
+    private final LexiconVersionService lexiconVersionService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public CombinationController(CombinationService combinationService) {
+    public CombinationController(CombinationService combinationService,
+                                 LexiconVersionService lexiconVersionService,
+                                 ObjectMapper objectMapper) {
         this.combinationService = combinationService;
+        this.lexiconVersionService = lexiconVersionService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
             summary = "Get all combinations",
-            description = "Retrieves all valid word combinations, optionally filtered by verb ID"
+            description = "Retrieves all valid word combinations, optionally filtered by verb ID. " +
+                    "Pass 'limit' (and 'after' from the previous page's next_cursor) to page through them by ID. " +
+                    "Send 'Accept: application/x-ndjson' to stream one combination per line instead. " +
+                    "Responses carry an ETag of the lexicon version; send it back in 'If-None-Match' to get 304."
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
             description = "Successfully retrieved combinations",
-            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class)),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = CombinationResponse.class))
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Lexicon has not changed since the ETag in If-None-Match"
     )
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CombinationResponse>>> getAllCombinations(
+    public ResponseEntity<?> getAllCombinations(
             @Parameter(description = "Filter by verb ID", example = "1")
-            @RequestParam(required = false) Long verb_id) {
+            @RequestParam(required = false) Long verb_id,
+            @Parameter(description = "Return only combinations with an ID greater than this cursor", example = "100")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (max 1000); enables keyset pagination", example = "100")
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader HttpHeaders headers,
+            WebRequest request) {
+
+        boolean ndjson = acceptsNdjson(headers);
+        if (request.checkNotModified(ndjson ? lexiconVersionService.etag("ndjson") : lexiconVersionService.etag())) {
+            return null;
+        }
+
+        if (ndjson) {
+            return streamCombinations(verb_id);
+        }
+
+        if (after != null || limit != null) {
+            KeysetPage<CombinationResponse> page = combinationService.findPage(verb_id, after, limit)
+                    .map(CombinationRow::toResponse);
+            return revalidated().body(new ApiResponse<>(true, page));
+        }
 
         List<AllowedCombination> combinations = combinationService.findAll(verb_id);
         List<CombinationResponse> responseData = combinations.stream()
                 .map(CombinationResponse::fromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new ApiResponse<>(true, responseData));
+        return revalidated().body(new ApiResponse<>(true, responseData));
     }
 
 
@@ -60,19 +109,20 @@ public class CombinationController {
             description = "Deletes a specific combination by its ID"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "204",
-            description = "Successfully deleted combination"
+            responseCode = "200",
+            description = "Successfully deleted combination; data.deleted is the number of removed rows",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404",
             description = "Combination not found"
     )
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteCombination(
+    public ResponseEntity<ApiResponse<CombinationDeleteResponse>> deleteCombination(
             @Parameter(description = "Combination ID", example = "1")
             @PathVariable Long id) {
-        combinationService.deleteCombination(id);
-        return new ResponseEntity<>(new ApiResponse<>(true, null), HttpStatus.NO_CONTENT);
+        int deleted = combinationService.deleteCombination(id);
+        return ResponseEntity.ok(new ApiResponse<>(true, new CombinationDeleteResponse(deleted)));
     }
 
     @Operation(
@@ -80,16 +130,16 @@ public class CombinationController {
             description = "Deletes all combinations associated with a specific verb ID"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "204",
-            description = "Successfully deleted combinations"
+            responseCode = "200",
+            description = "Successfully deleted combinations; data.deleted is the number of removed rows",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
     )
     @DeleteMapping("/by-verb/{verb_id}")
-    public ResponseEntity<ApiResponse<Void>> deleteCombinationsByVerb(
+    public ResponseEntity<ApiResponse<CombinationDeleteResponse>> deleteCombinationsByVerb(
             @Parameter(description = "Verb ID", example = "1")
             @PathVariable Long verb_id) {
-        combinationService.deleteCombinationsByVerb(verb_id);
-        // Return 204 No Content for successful deletion
-        return new ResponseEntity<>(new ApiResponse<>(true, null), HttpStatus.NO_CONTENT);
+        int deleted = combinationService.deleteCombinationsByVerb(verb_id);
+        return ResponseEntity.ok(new ApiResponse<>(true, new CombinationDeleteResponse(deleted)));
     }
 
     @Operation(
@@ -114,4 +164,46 @@ public class CombinationController {
         return ResponseEntity.ok(new ApiResponse<>(true, combinationResponse));
 
     }
+
+    private ResponseEntity<StreamingResponseBody> streamCombinations(Long verbId) {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(CombinationResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+
+                int[] written = {0};
+                combinationService.exportCombinations(verbId, combination -> {
+                    try {
+                        writer.write(combination);
+                        // Flush periodically so the client receives rows while the cursor is still open
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return revalidated()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Clients may keep the listing but must revalidate it with its ETag before reuse.
+     * The ETag differs between JSON and NDJSON, so caches must key on Accept as well.
+     */
+    private ResponseEntity.BodyBuilder revalidated() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private boolean acceptsNdjson(HttpHeaders headers) {
+        return headers.getAccept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
 }
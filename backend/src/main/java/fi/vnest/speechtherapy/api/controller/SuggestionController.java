@@ -2,9 +2,12 @@ package fi.vnest.speechtherapy.api.controller;
 
 import fi.vnest.speechtherapy.api.dto.ApiResponse;
 import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.dto.ValidationBatchRequest;
 import fi.vnest.speechtherapy.api.dto.ValidationRequest;
 import fi.vnest.speechtherapy.api.dto.ValidationResponse;
 import fi.vnest.speechtherapy.api.service.CombinationService;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
+import fi.vnest.speechtherapy.api.service.SuggestionPayloadCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,8 +15,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * REST controller for managing Exercise Suggestions and Sentence Validation.
@@ -24,31 +33,59 @@ import org.springframework.web.bind.annotation.*;
 public class SuggestionController {
 
     private final CombinationService combinationService;
+    private final LexiconVersionService lexiconVersionService;
+    private final SuggestionPayloadCache suggestionPayloadCache;
 
     @Autowired
-    public SuggestionController(CombinationService combinationService) {
+    public SuggestionController(CombinationService combinationService,
+                                LexiconVersionService lexiconVersionService,
+                                SuggestionPayloadCache suggestionPayloadCache) {
         this.combinationService = combinationService;
+        this.lexiconVersionService = lexiconVersionService;
+        this.suggestionPayloadCache = suggestionPayloadCache;
     }
 
     @Operation(
             summary = "Get exercise suggestions",
-            description = "Retrieves exercise suggestions with random word combinations for language practice"
+            description = "Retrieves exercise suggestions with random word combinations for language practice. " +
+                    "Responses carry an ETag of the lexicon version; send it back in 'If-None-Match' to get 304."
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
             description = "Successfully retrieved suggestions",
             content = @Content(schema = @Schema(implementation = ApiResponse.class))
     )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Lexicon has not changed since the ETag in If-None-Match"
+    )
     @GetMapping
-    public ResponseEntity<ApiResponse<SuggestionResponse>> getSuggestions(
+    public ResponseEntity<byte[]> getSuggestions(
             @Parameter(description = "Difficulty level (future feature, currently ignored)", example = "easy")
             @RequestParam(required = false) String difficulty,
             @Parameter(description = "Maximum number of suggestions to return", example = "10")
-            @RequestParam(required = false) Integer limit) {
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
 
-        // Note: Difficulty is currently ignored as per requirements, but included in signature for completeness.
-        SuggestionResponse suggestions = combinationService.getExerciseSuggestions(limit);
-        return ResponseEntity.ok(new ApiResponse<>(true, suggestions));
+        // The gzipped body is a different representation, so it needs its own ETag
+        boolean gzip = suggestionPayloadCache.isPrecompressed()
+                && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(gzip ? lexiconVersionService.etag("gzip") : lexiconVersionService.etag())) {
+            return null;
+        }
+
+        // Note: Difficulty and limit are currently ignored as per requirements, but included in signature for completeness.
+        // The body is serialized once per lexicon version and written as is.
+        SuggestionPayloadCache.Payload payload = suggestionPayloadCache.current();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzipped());
+        }
+        return response.body(payload.json());
     }
 
     @Operation(
@@ -95,4 +132,41 @@ public class SuggestionController {
         ValidationResponse validationResult = combinationService.validateCombination(request);
         return ResponseEntity.ok(new ApiResponse<>(true, validationResult));
     }
+
+    @Operation(
+            summary = "Validate several sentence combinations",
+            description = "Validates a list of subject-verb-object combinations, e.g. all answers of an offline session, " +
+                    "in one request. Results are returned in the same order as the request."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Validation completed successfully",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Invalid request body or more than " + ValidationBatchRequest.MAX_SIZE + " combinations"
+    )
+    @PostMapping("/validate/batch")
+    public ResponseEntity<ApiResponse<List<ValidationResponse>>> validateCombinations(
+            @Parameter(description = "Combinations to validate")
+            @Valid @RequestBody ValidationBatchRequest request) {
+
+        List<ValidationResponse> results = combinationService.validateCombinations(request.getCombinations());
+        return ResponseEntity.ok(new ApiResponse<>(true, results));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -1,9 +1,11 @@
 package fi.vnest.speechtherapy.api.controller;
 
 import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.KeysetPage;
 import fi.vnest.speechtherapy.api.dto.WordResponse;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
 import fi.vnest.speechtherapy.api.service.WordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,8 +13,10 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,25 +27,48 @@ import java.util.stream.Collectors;
 public class WordController {
 
     private final WordService wordService;
+    private final LexiconVersionService lexiconVersionService;
 
     @Autowired
-    public WordController(WordService wordService) {
+    public WordController(WordService wordService, LexiconVersionService lexiconVersionService) {
         this.wordService = wordService;
+        this.lexiconVersionService = lexiconVersionService;
     }
 
     @Operation(
             summary = "Get all words",
-            description = "Retrieves available words, optionally filtered by type (SUBJECT, VERB, OBJECT)"
+            description = "Retrieves available words, optionally filtered by type (SUBJECT, VERB, OBJECT). " +
+                    "Pass 'limit' (and 'after' from the previous page's next_cursor) to page through them by ID. " +
+                    "Responses carry an ETag of the lexicon version; send it back in 'If-None-Match' to get 304."
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
             description = "Successfully retrieved words",
             content = @Content(schema = @Schema(implementation = ApiResponse.class))
     )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Lexicon has not changed since the ETag in If-None-Match"
+    )
     @GetMapping()
-    public ResponseEntity<ApiResponse<List<WordResponse>>> getAllWords(
+    public ResponseEntity<ApiResponse<?>> getAllWords(
             @Parameter(description = "Filter by word type (SUBJECT, VERB, OBJECT)", example = "VERB")
-            @RequestParam(required = false) WordType type) {
+            @RequestParam(required = false) WordType type,
+            @Parameter(description = "Return only words with an ID greater than this cursor", example = "100")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (max 1000); enables keyset pagination", example = "100")
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+
+        if (request.checkNotModified(lexiconVersionService.etag())) {
+            return null;
+        }
+
+        if (after != null || limit != null) {
+            KeysetPage<WordResponse> page = wordService.findPage(type, after, limit)
+                    .map(WordResponse::fromEntity);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(new ApiResponse<>(true, page));
+        }
 
         List<Word> words = wordService.findAll(type);
 
@@ -49,7 +76,7 @@ public class WordController {
                 .map(WordResponse::fromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new ApiResponse<>(true, responseData));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(new ApiResponse<>(true, responseData));
     }
 
     @Operation(
@@ -7,5 +7,6 @@ import java.util.List;
  */
 public record CombinationBatchResponse(
         int created,
+        int skipped,
         List<CombinationResponse> combinations
 ) {}
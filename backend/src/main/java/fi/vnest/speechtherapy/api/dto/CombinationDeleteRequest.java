@@ -0,0 +1,27 @@
+package fi.vnest.speechtherapy.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for POST /admin/combinations/delete: the IDs of the combinations to delete.
+ */
+public class CombinationDeleteRequest {
+
+    public static final int MAX_SIZE = 10000;
+
+    @NotEmpty(message = "At least one combination ID is required")
+    @Size(max = MAX_SIZE, message = "At most " + MAX_SIZE + " combinations can be deleted at once")
+    private List<@NotNull Long> ids;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,8 @@
+package fi.vnest.speechtherapy.api.dto;
+
+/**
+ * DTO for responding to combination delete requests with the number of rows removed.
+ */
+public record CombinationDeleteResponse(
+        int deleted
+) {}
@@ -0,0 +1,25 @@
+package fi.vnest.speechtherapy.api.dto;
+
+/**
+ * Flat read-only projection of a combination and its word texts.
+ * Produced directly by JPQL constructor expressions, so no entities are managed while reading.
+ */
+public record CombinationRow(
+        Long id,
+        Long subjectId,
+        String subjectText,
+        Long verbId,
+        String verbText,
+        Long objectId,
+        String objectText
+) {
+    public CombinationResponse toResponse() {
+        return new CombinationResponse(
+                id,
+                WordReference.of(subjectId, subjectText),
+                WordReference.of(verbId, verbText),
+                WordReference.of(objectId, objectText),
+                subjectText + " " + verbText + " " + objectText
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package fi.vnest.speechtherapy.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import fi.vnest.speechtherapy.api.service.StartupInitializer;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * State of the background startup phases, served by the {@code initialization} actuator endpoint.
+ *
+ * @param complete    Whether every phase has finished; readiness is up from then on.
+ * @param startedAt   When the first phase started, or null before the application is running.
+ * @param totalMillis Wall time of all phases together, or null while they are still running.
+ * @param phases      State and timing of each phase, in start order.
+ */
+public record InitializationResponse(
+        boolean complete,
+        @JsonProperty("started_at") Instant startedAt,
+        @JsonProperty("total_millis") Long totalMillis,
+        List<StartupInitializer.Phase> phases
+) {}
@@ -0,0 +1,47 @@
+package fi.vnest.speechtherapy.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a keyset (seek) paginated listing ordered by ID.
+ * Pass {@code next_cursor} back as the {@code after} parameter to get the next page; it is null on the last page.
+ */
+public record KeysetPage<T>(
+        List<T> items,
+
+        @JsonProperty("next_cursor")
+        Long nextCursor
+) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only signals that more pages exist.
+     */
+    public static <T> KeysetPage<T> fromLookahead(List<T> fetched, int limit, ToLongFunction<T> idOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items, idOf.applyAsLong(items.get(limit - 1)));
+    }
+
+    /**
+     * Clamps a requested page size to 1..{@link #MAX_LIMIT}, using {@link #DEFAULT_LIMIT} when none is given.
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
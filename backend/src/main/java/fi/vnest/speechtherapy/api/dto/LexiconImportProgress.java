@@ -0,0 +1,12 @@
+package fi.vnest.speechtherapy.api.dto;
+
+/**
+ * Progress line streamed while a lexicon import runs: one per finished stage.
+ *
+ * @param stage  Stage name: parse, dedupe, groups, words or combinations.
+ * @param millis Wall time the stage took.
+ */
+public record LexiconImportProgress(
+        String stage,
+        long millis
+) {}
@@ -0,0 +1,55 @@
+package fi.vnest.speechtherapy.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import fi.vnest.speechtherapy.api.service.LexiconImportReport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for responding to a lexicon CSV upload with what the import changed.
+ * Only the first {@link #MAX_ERRORS} rejected lines are listed; {@code error_count} has the total.
+ */
+public record LexiconImportResponse(
+        int entries,
+
+        @JsonProperty("error_count")
+        int errorCount,
+
+        List<String> errors,
+
+        @JsonProperty("groups_created")
+        int groupsCreated,
+
+        @JsonProperty("words_created")
+        int wordsCreated,
+
+        @JsonProperty("combinations_created")
+        int combinationsCreated,
+
+        @JsonProperty("combinations_deleted")
+        int combinationsDeleted,
+
+        @JsonProperty("combinations_unchanged")
+        int combinationsUnchanged,
+
+        @JsonProperty("stage_millis")
+        Map<String, Long> stageMillis
+) {
+    public static final int MAX_ERRORS = 100;
+
+    public static LexiconImportResponse fromReport(LexiconImportReport report) {
+        List<String> errors = report.errors();
+        return new LexiconImportResponse(
+                report.entries(),
+                errors.size(),
+                errors.size() > MAX_ERRORS ? List.copyOf(errors.subList(0, MAX_ERRORS)) : errors,
+                report.groupsCreated(),
+                report.wordsCreated(),
+                report.combinationsCreated(),
+                report.combinationsDeleted(),
+                report.combinationsUnchanged(),
+                report.stageMillis()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package fi.vnest.speechtherapy.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for POST /api/suggestions/validate/batch: the answers of a whole exercise session.
+ */
+public class ValidationBatchRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @NotEmpty(message = "At least one combination is required")
+    @Size(max = MAX_SIZE, message = "At most " + MAX_SIZE + " combinations can be validated at once")
+    @JsonProperty("combinations")
+    private List<@NotNull(message = "Combination is required") @Valid ValidationRequest> combinations;
+
+    public List<ValidationRequest> getCombinations() {
+        return combinations;
+    }
+
+    public void setCombinations(List<ValidationRequest> combinations) {
+        this.combinations = combinations;
+    }
+}
@@ -10,11 +10,20 @@ public class WordReference {
     private Long id;
     private String text;
 
+    public WordReference() {
+    }
+
+    public WordReference(Long id, String text) {
+        this.id = id;
+        this.text = text;
+    }
+
     public static WordReference fromEntity(Word word) {
-        WordReference wordReference = new WordReference();
-        wordReference.setId(word.getId());
-        wordReference.setText(word.getText());
-        return wordReference;
+        return of(word.getId(), word.getText());
+    }
+
+    public static WordReference of(Long id, String text) {
+        return new WordReference(id, text);
     }
 
     public Long getId() {
@@ -16,7 +16,7 @@ public class AllowedCombination {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "allowed_combination_seq")
-    @SequenceGenerator(name = "allowed_combination_seq", sequenceName = "allowed_combination_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "allowed_combination_seq", sequenceName = "allowed_combination_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
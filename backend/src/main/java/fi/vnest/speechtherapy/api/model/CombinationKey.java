@@ -0,0 +1,11 @@
+package fi.vnest.speechtherapy.api.model;
+
+/**
+ * Identifies an allowed combination by its word IDs, without loading any entities.
+ */
+public record CombinationKey(
+        Long subjectId,
+        Long verbId,
+        Long objectId
+) {
+}
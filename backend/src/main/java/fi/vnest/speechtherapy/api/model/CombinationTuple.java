@@ -0,0 +1,13 @@
+package fi.vnest.speechtherapy.api.model;
+
+/**
+ * The IDs of an allowed combination plus its verb's group ID, read as a scalar projection.
+ * Enough to build exercise suggestions without loading any entities.
+ */
+public record CombinationTuple(
+        Long verbId,
+        Long subjectId,
+        Long objectId,
+        Long verbGroupId
+) {
+}
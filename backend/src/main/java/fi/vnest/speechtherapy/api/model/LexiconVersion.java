@@ -0,0 +1,43 @@
+package fi.vnest.speechtherapy.api.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row counter that increases on every lexicon write.
+ */
+@Entity
+@Table(name = "lexicon_version")
+public class LexiconVersion {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    public LexiconVersion() {
+    }
+
+    public LexiconVersion(Integer id, Long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -13,7 +13,7 @@ public class Word {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "word_seq")
-    @SequenceGenerator(name = "word_seq", sequenceName = "word_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "word_seq", sequenceName = "word_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -0,0 +1,15 @@
+package fi.vnest.speechtherapy.api.model;
+
+/**
+ * Identifies a word the way the CSV import matches them: verbs by text and group,
+ * subjects and objects by text alone (their group is always null).
+ */
+public record WordKey(
+        String text,
+        WordType type,
+        Long groupId
+) {
+    public static WordKey of(String text, WordType type, Long groupId) {
+        return new WordKey(text, type, type == WordType.VERB ? groupId : null);
+    }
+}
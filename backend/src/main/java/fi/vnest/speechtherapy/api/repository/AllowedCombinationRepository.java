@@ -1,21 +1,118 @@
 package fi.vnest.speechtherapy.api.repository;
 
+import fi.vnest.speechtherapy.api.dto.CombinationRow;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.CombinationKey;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AllowedCombinationRepository extends JpaRepository<AllowedCombination, Long> {
 
+    String ROW_SELECT = "SELECT new fi.vnest.speechtherapy.api.dto.CombinationRow(" +
+            "c.id, s.id, s.text, v.id, v.text, o.id, o.text) " +
+            "FROM AllowedCombination c JOIN c.subject s JOIN c.verb v JOIN c.object o ";
+
+    String EXPORT_FETCH_SIZE = "500";
+
     /**
      * Finds combinations by a specific verb ID.
      */
     List<AllowedCombination> findByVerbId(Long verbId);
 
+    /**
+     * Loads every combination together with its words and the verb's group in a single query.
+     * Used to list combinations without lazy loading.
+     */
+    @Query("SELECT c FROM AllowedCombination c " +
+            "JOIN FETCH c.subject " +
+            "JOIN FETCH c.verb v " +
+            "LEFT JOIN FETCH v.group " +
+            "JOIN FETCH c.object")
+    List<AllowedCombination> findAllWithWords();
+
+    /**
+     * Loads the combinations of one verb together with their words in a single query.
+     */
+    @Query("SELECT c FROM AllowedCombination c " +
+            "JOIN FETCH c.subject " +
+            "JOIN FETCH c.verb " +
+            "JOIN FETCH c.object " +
+            "WHERE c.verb.id = :verbId")
+    List<AllowedCombination> findAllWithWordsByVerbId(@Param("verbId") Long verbId);
+
+    /**
+     * Loads a single combination together with its words in one query.
+     */
+    @Query("SELECT c FROM AllowedCombination c " +
+            "JOIN FETCH c.subject " +
+            "JOIN FETCH c.verb " +
+            "JOIN FETCH c.object " +
+            "WHERE c.id = :id")
+    Optional<AllowedCombination> findWithWordsById(@Param("id") Long id);
+
+    /**
+     * Returns the word IDs and verb group ID of every combination as scalar tuples.
+     * Used to compile the in-memory combination graph without filling the persistence context.
+     */
+    @Query("SELECT new fi.vnest.speechtherapy.api.model.CombinationTuple(v.id, c.subject.id, c.object.id, g.id) " +
+            "FROM AllowedCombination c JOIN c.verb v LEFT JOIN v.group g")
+    List<CombinationTuple> findAllTuples();
+
+    /**
+     * Returns the word IDs of every existing combination for a verb without loading entities.
+     */
+    @Query("SELECT new fi.vnest.speechtherapy.api.model.CombinationKey(c.subject.id, c.verb.id, c.object.id) " +
+            "FROM AllowedCombination c WHERE c.verb.id = :verbId")
+    List<CombinationKey> findKeysByVerbId(@Param("verbId") Long verbId);
+
+    /**
+     * Keyset page of combinations with IDs greater than {@code after}, as flat rows.
+     */
+    @Query(ROW_SELECT + "WHERE c.id > :after ORDER BY c.id")
+    List<CombinationRow> findRowsAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Keyset page of one verb's combinations with IDs greater than {@code after}, as flat rows.
+     */
+    @Query(ROW_SELECT + "WHERE v.id = :verbId AND c.id > :after ORDER BY c.id")
+    List<CombinationRow> findRowsByVerbIdAfter(@Param("verbId") Long verbId, @Param("after") Long after, Limit limit);
+
+    /**
+     * Streams every combination as a flat row through a server-side cursor.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ROW_SELECT + "ORDER BY c.id")
+    Stream<CombinationRow> streamAllRows();
+
+    /**
+     * Streams the combinations of one verb as flat rows through a server-side cursor.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ROW_SELECT + "WHERE v.id = :verbId ORDER BY c.id")
+    Stream<CombinationRow> streamRowsByVerbId(@Param("verbId") Long verbId);
+
     /**
      * Checks if a combination already exists based on all three word IDs.
      */
@@ -23,8 +120,29 @@ public interface AllowedCombinationRepository extends JpaRepository<AllowedCombi
     Optional<AllowedCombination> findBySubjectIdAndVerbIdAndObjectId(Long subjectId, Long verbId, Long objectId);
 
     /**
-     * Deletes all combinations associated with a specific verb ID.
+     * Deletes a single combination in one statement without loading it.
+     *
+     * @return The number of deleted rows, 0 or 1.
+     */
+    @Modifying
+    @Query("DELETE FROM AllowedCombination c WHERE c.id = :id")
+    int deleteSingleById(@Param("id") Long id);
+
+    /**
+     * Deletes the given combinations in one statement without loading them.
+     *
+     * @return The number of deleted rows; IDs that do not exist are not counted.
+     */
+    @Modifying
+    @Query("DELETE FROM AllowedCombination c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes all combinations associated with a specific verb ID in one statement without loading them.
+     *
+     * @return The number of deleted rows.
      */
     @Modifying
-    void deleteAllByVerbId(Long verbId);
+    @Query("DELETE FROM AllowedCombination c WHERE c.verb.id = :verbId")
+    int deleteAllByVerbId(@Param("verbId") Long verbId);
 }
@@ -0,0 +1,133 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import fi.vnest.speechtherapy.api.model.CombinationKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC writes for AllowedCombination rows where going through the persistence context is too slow.
+ */
+@Repository
+public class CombinationBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    // Must match allocationSize on AllowedCombination and the sequence increment (V5 migration)
+    private static final int ID_INCREMENT_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequence idSequence;
+    private final String insertSql;
+    private final String selectIdsSql;
+    private final String existingIdsSql;
+    private final String deleteSql;
+
+    @Autowired
+    public CombinationBatchRepository(JdbcTemplate jdbcTemplate,
+                                      @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        String prefix = schema.isBlank() ? "" : schema + ".";
+        this.idSequence = new PooledSequence(jdbcTemplate, prefix + "allowed_combination_id_seq", ID_INCREMENT_SIZE);
+        // Duplicates are dropped by the unique constraint on the word IDs, the only one a fresh ID can hit.
+        // No conflict target, so H2's PostgreSQL mode accepts the statement as well.
+        this.insertSql = "INSERT INTO " + prefix + "allowed_combination (id, subject_id, verb_id, object_id, created_at) " +
+                "VALUES (?, ?, ?, ?, ?) " +
+                "ON CONFLICT DO NOTHING";
+        this.selectIdsSql = "SELECT id, subject_id, verb_id, object_id FROM " + prefix + "allowed_combination";
+        this.existingIdsSql = "SELECT id FROM " + prefix + "allowed_combination WHERE id IN (";
+        this.deleteSql = "DELETE FROM " + prefix + "allowed_combination WHERE id = ?";
+    }
+
+    /**
+     * Returns the ID of every combination by its word IDs, read in a single scan.
+     */
+    public Map<CombinationKey, Long> findAllIds() {
+        Map<CombinationKey, Long> ids = new HashMap<>();
+        jdbcTemplate.query(selectIdsSql, rs -> {
+            ids.put(new CombinationKey(rs.getLong("subject_id"), rs.getLong("verb_id"), rs.getLong("object_id")),
+                    rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * Deletes combinations by ID in JDBC batches.
+     */
+    public void deleteByIds(Collection<Long> ids) {
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add(new Object[]{id});
+        }
+
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(deleteSql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * Inserts the combinations in JDBC batches, silently skipping any that already exist.
+     *
+     * @return The number of rows inserted for each key, in iteration order: 1 if inserted, 0 if it already existed.
+     */
+    public int[] insertIgnoringDuplicates(Collection<CombinationKey> keys) {
+        int[] inserted = new int[keys.size()];
+        if (keys.isEmpty()) {
+            return inserted;
+        }
+
+        long[] ids = idSequence.nextIds(keys.size());
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        int i = 0;
+        for (CombinationKey key : keys) {
+            rows.add(new Object[]{ids[i++], key.subjectId(), key.verbId(), key.objectId(), createdAt});
+        }
+
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, rows.size());
+            int[] counts = jdbcTemplate.batchUpdate(insertSql, rows.subList(from, to));
+            System.arraycopy(counts, 0, inserted, from, counts.length);
+            resolveUnknownCounts(inserted, ids, from, to);
+        }
+        return inserted;
+    }
+
+    /**
+     * With reWriteBatchedInserts the PostgreSQL driver merges the rows into multi-row statements and reports
+     * SUCCESS_NO_INFO for each of them. The IDs were allocated here, so a row was inserted exactly when its ID exists.
+     */
+    private void resolveUnknownCounts(int[] inserted, long[] ids, int from, int to) {
+        List<Long> unknown = new ArrayList<>();
+        for (int row = from; row < to; row++) {
+            if (inserted[row] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(ids[row]);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        String sql = existingIdsSql + String.join(", ", Collections.nCopies(unknown.size(), "?")) + ")";
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, unknown.toArray()));
+        for (int row = from; row < to; row++) {
+            if (inserted[row] == Statement.SUCCESS_NO_INFO) {
+                inserted[row] = existing.contains(ids[row]) ? 1 : 0;
+            }
+        }
+    }
+}
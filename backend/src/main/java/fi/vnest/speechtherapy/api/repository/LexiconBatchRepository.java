@@ -0,0 +1,132 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import fi.vnest.speechtherapy.api.model.WordKey;
+import fi.vnest.speechtherapy.api.model.WordType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC reads and writes of groups and words for bulk imports, bypassing the persistence context.
+ * Callers are expected to diff against the existing rows first and insert only what is missing.
+ */
+@Repository
+public class LexiconBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    // Must match allocationSize on Word and the sequence increment (V5 migration)
+    private static final int WORD_ID_INCREMENT_SIZE = 50;
+
+    private static final int[] WORD_ARG_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequence wordIdSequence;
+    private final String selectGroupsSql;
+    private final String insertGroupSql;
+    private final String selectWordsSql;
+    private final String insertWordSql;
+
+    @Autowired
+    public LexiconBatchRepository(JdbcTemplate jdbcTemplate,
+                                  @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        String prefix = schema.isBlank() ? "" : schema + ".";
+        this.wordIdSequence = new PooledSequence(jdbcTemplate, prefix + "word_id_seq", WORD_ID_INCREMENT_SIZE);
+        this.selectGroupsSql = "SELECT id, name FROM " + prefix + "word_group";
+        this.insertGroupSql = "INSERT INTO " + prefix + "word_group (name, description) VALUES (?, ?)";
+        this.selectWordsSql = "SELECT id, text, type, group_id FROM " + prefix + "word ORDER BY id";
+        this.insertWordSql = "INSERT INTO " + prefix + "word (id, text, type, group_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+    }
+
+    /**
+     * Returns the IDs of all groups by name.
+     */
+    public Map<String, Long> findGroupIds() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(selectGroupsSql, rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * Inserts groups in JDBC batches, with the same "Section &lt;name&gt;" description the import has always used.
+     */
+    public void insertGroups(Collection<String> names) {
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{name, "Section " + name});
+        }
+        batchUpdate(insertGroupSql, rows, null);
+    }
+
+    /**
+     * Returns the IDs of all words by import key. If several words share a key the oldest one wins,
+     * matching what the per-line import used to pick up.
+     */
+    public Map<WordKey, Long> findWordIds() {
+        Map<WordKey, Long> ids = new HashMap<>();
+        jdbcTemplate.query(selectWordsSql, rs -> {
+            long groupId = rs.getLong("group_id");
+            WordKey key = WordKey.of(
+                    rs.getString("text"),
+                    WordType.valueOf(rs.getString("type")),
+                    rs.wasNull() ? null : groupId
+            );
+            ids.putIfAbsent(key, rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * Inserts words in JDBC batches, taking IDs from the shared word sequence.
+     *
+     * @return The assigned ID of each inserted word.
+     */
+    public Map<WordKey, Long> insertWords(Collection<WordKey> words) {
+        Map<WordKey, Long> ids = new LinkedHashMap<>();
+        if (words.isEmpty()) {
+            return ids;
+        }
+
+        long[] assigned = wordIdSequence.nextIds(words.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(words.size());
+        int i = 0;
+        for (WordKey word : words) {
+            long id = assigned[i++];
+            ids.put(word, id);
+            rows.add(new Object[]{id, word.text(), word.type().name(), word.groupId(), now, now});
+        }
+
+        batchUpdate(insertWordSql, rows, WORD_ARG_TYPES);
+        return ids;
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows, int[] argTypes) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            if (argTypes != null) {
+                jdbcTemplate.batchUpdate(sql, batch, argTypes);
+            } else {
+                jdbcTemplate.batchUpdate(sql, batch);
+            }
+        }
+    }
+}
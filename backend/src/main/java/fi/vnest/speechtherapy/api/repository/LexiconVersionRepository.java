@@ -0,0 +1,24 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import fi.vnest.speechtherapy.api.model.LexiconVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface LexiconVersionRepository extends JpaRepository<LexiconVersion, Integer> {
+
+    /**
+     * Increments the counter in place, so concurrent writers never lose an update.
+     *
+     * @return The number of rows updated (0 if the row does not exist yet).
+     */
+    @Modifying
+    @Query("UPDATE LexiconVersion l SET l.version = l.version + 1 WHERE l.id = :id")
+    int increment(@Param("id") Integer id);
+
+    @Query("SELECT l.version FROM LexiconVersion l WHERE l.id = :id")
+    Optional<Long> findVersion(@Param("id") Integer id);
+}
@@ -0,0 +1,43 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Allocates IDs from a database sequence the same way Hibernate's pooled-lo optimizer does:
+ * each nextval call reserves the block [value, value + incrementSize).
+ * Lets plain JDBC inserts share a sequence with the entity ID generators without collisions.
+ */
+public class PooledSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+    private final int incrementSize;
+
+    public PooledSequence(JdbcTemplate jdbcTemplate, String qualifiedSequenceName, int incrementSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueSql = "SELECT nextval('" + qualifiedSequenceName + "')";
+        this.incrementSize = incrementSize;
+    }
+
+    /**
+     * Reserves {@code count} IDs, calling nextval once per block.
+     * IDs left over in the last block are discarded.
+     */
+    public long[] nextIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+
+        while (filled < count) {
+            Long blockStart = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+            if (blockStart == null) {
+                throw new IllegalStateException("Sequence returned no value: " + nextValueSql);
+            }
+
+            for (int i = 0; i < incrementSize && filled < count; i++) {
+                ids[filled++] = blockStart + i;
+            }
+        }
+
+        return ids;
+    }
+}
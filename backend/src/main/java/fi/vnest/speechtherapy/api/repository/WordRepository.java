@@ -1,9 +1,14 @@
 package fi.vnest.speechtherapy.api.repository;
 
+import fi.vnest.speechtherapy.api.dto.WordReference;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordGroup;
 import fi.vnest.speechtherapy.api.model.WordType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -35,4 +40,42 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
     long countByGroup(WordGroup group);
 
+    /**
+     * Loads all words with their group in one query, so the results stay usable once detached (e.g. cached).
+     */
+    @EntityGraph(attributePaths = "group")
+    @Query("SELECT w FROM Word w")
+    List<Word> findAllWithGroup();
+
+    /**
+     * Loads all words of one type with their group in one query.
+     */
+    @EntityGraph(attributePaths = "group")
+    @Query("SELECT w FROM Word w WHERE w.type = :type")
+    List<Word> findAllWithGroupByType(@Param("type") WordType type);
+
+    /**
+     * Loads a single word with its group in one query.
+     */
+    @EntityGraph(attributePaths = "group")
+    @Query("SELECT w FROM Word w WHERE w.id = :id")
+    Optional<Word> findWithGroupById(@Param("id") Long id);
+
+    /**
+     * Keyset page of words with IDs greater than {@code id}, group fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "group")
+    List<Word> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Keyset page of words of one type with IDs greater than {@code id}, group fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "group")
+    List<Word> findByTypeAndIdGreaterThanOrderByIdAsc(WordType type, Long id, Limit limit);
+
+    /**
+     * Returns the ID and text of every word as a scalar projection, without loading entities.
+     */
+    @Query("SELECT new fi.vnest.speechtherapy.api.dto.WordReference(w.id, w.text) FROM Word w")
+    List<WordReference> findAllReferences();
 }
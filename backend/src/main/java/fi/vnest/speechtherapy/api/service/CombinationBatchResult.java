@@ -0,0 +1,14 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch creation: the combinations that were created and how many requested ones were skipped.
+ */
+public record CombinationBatchResult(
+        List<AllowedCombination> created,
+        int skipped
+) {
+}
@@ -0,0 +1,235 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.dto.ValidationRequest;
+import fi.vnest.speechtherapy.api.dto.ValidationResponse;
+import fi.vnest.speechtherapy.api.dto.VerbSuggestion;
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+
+import java.util.*;
+
+/**
+ * Immutable, compiled view of all allowed combinations as a verb -> subjects/objects adjacency,
+ * plus a packed triple set and word texts for validating sentences.
+ * Built once from the database by {@link CombinationIndex} (or, in the reactive read API, from R2DBC queries)
+ * and shared by all readers.
+ */
+public final class CombinationGraph {
+
+    private static final String CORRECT_MESSAGE = "Oikein! Hyvä lause.";
+    private static final String INCORRECT_MESSAGE = "Väärin. Tuo lause ei ole sallittu.";
+    private static final String UNKNOWN_SUBJECT = "[Unknown Subject]";
+    private static final String UNKNOWN_VERB = "[Unknown Verb]";
+    private static final String UNKNOWN_OBJECT = "[Unknown Object]";
+
+    private final Map<Long, VerbSuggestion> verbs;
+    private final Map<Long, WordReference> subjects;
+    private final Map<Long, WordReference> objects;
+    private final SuggestionResponse suggestions;
+
+    // Sorted word IDs; a word's position in this array is its dense index
+    private final long[] wordIds;
+    private final String[] wordTexts;
+    private final PackedTripleSet triples;
+
+    private CombinationGraph(Map<Long, VerbSuggestion> verbs,
+                             Map<Long, WordReference> subjects,
+                             Map<Long, WordReference> objects,
+                             long[] wordIds,
+                             String[] wordTexts,
+                             PackedTripleSet triples) {
+        this.verbs = verbs;
+        this.subjects = subjects;
+        this.objects = objects;
+        this.wordIds = wordIds;
+        this.wordTexts = wordTexts;
+        this.triples = triples;
+        this.suggestions = new SuggestionResponse(
+                List.copyOf(verbs.values()),
+                List.copyOf(subjects.values()),
+                List.copyOf(objects.values())
+        );
+    }
+
+    /**
+     * Compiles the graph from scalar combination tuples and word references; no entities are involved.
+     * Verbs and words are ordered by ID so the output is stable between rebuilds.
+     *
+     * @param combinations All allowed combinations as (verb, subject, object, verb group) ID tuples.
+     * @param words        ID and text of all words, used for suggestion texts and for building sentences.
+     */
+    public static CombinationGraph compile(Collection<CombinationTuple> combinations, Collection<WordReference> words) {
+        Map<Long, WordReference> wordsById = new HashMap<>();
+        for (WordReference word : words) {
+            wordsById.put(word.getId(), word);
+        }
+
+        Map<Long, Long> verbGroupIds = new TreeMap<>();
+        Map<Long, Set<Long>> verbToSubjectIds = new HashMap<>();
+        Map<Long, Set<Long>> verbToObjectIds = new HashMap<>();
+        Map<Long, WordReference> subjects = new TreeMap<>();
+        Map<Long, WordReference> objects = new TreeMap<>();
+
+        for (CombinationTuple combo : combinations) {
+            Long verbId = combo.verbId();
+
+            // TreeMap permits null values, so verbs without a group are kept as well
+            verbGroupIds.putIfAbsent(verbId, combo.verbGroupId());
+            verbToSubjectIds.computeIfAbsent(verbId, k -> new HashSet<>()).add(combo.subjectId());
+            verbToObjectIds.computeIfAbsent(verbId, k -> new HashSet<>()).add(combo.objectId());
+            subjects.computeIfAbsent(combo.subjectId(), id -> reference(wordsById, id));
+            objects.computeIfAbsent(combo.objectId(), id -> reference(wordsById, id));
+        }
+
+        Map<Long, VerbSuggestion> verbs = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> verb : verbGroupIds.entrySet()) {
+            Long verbId = verb.getKey();
+            verbs.put(verbId, new VerbSuggestion(
+                    verbId,
+                    reference(wordsById, verbId).getText(),
+                    verb.getValue(),
+                    sortedIds(verbToSubjectIds.get(verbId)),
+                    sortedIds(verbToObjectIds.get(verbId))
+            ));
+        }
+
+        long[] wordIds = collectWordIds(combinations, words);
+        String[] wordTexts = new String[wordIds.length];
+        for (WordReference word : words) {
+            wordTexts[Arrays.binarySearch(wordIds, word.getId())] = word.getText();
+        }
+
+        PackedTripleSet triples = new PackedTripleSet(combinations.size());
+        for (CombinationTuple combo : combinations) {
+            triples.add(
+                    Arrays.binarySearch(wordIds, combo.subjectId()),
+                    Arrays.binarySearch(wordIds, combo.verbId()),
+                    Arrays.binarySearch(wordIds, combo.objectId())
+            );
+        }
+
+        return new CombinationGraph(
+                Collections.unmodifiableMap(verbs),
+                Collections.unmodifiableMap(subjects),
+                Collections.unmodifiableMap(objects),
+                wordIds,
+                wordTexts,
+                triples
+        );
+    }
+
+    /**
+     * Checks whether the subject-verb-object triple is an allowed combination.
+     * Does not allocate.
+     */
+    public boolean contains(long subjectId, long verbId, long objectId) {
+        return triples.contains(indexOf(subjectId), indexOf(verbId), indexOf(objectId));
+    }
+
+    /**
+     * Validates a subject-verb-object combination and builds the sentence, with placeholders for unknown words.
+     */
+    public ValidationResponse validate(ValidationRequest request) {
+        long subjectId = request.subjectId();
+        long verbId = request.verbId();
+        long objectId = request.objectId();
+
+        boolean valid = contains(subjectId, verbId, objectId);
+        String sentence = wordText(subjectId, UNKNOWN_SUBJECT) + " "
+                + wordText(verbId, UNKNOWN_VERB) + " "
+                + wordText(objectId, UNKNOWN_OBJECT);
+
+        return new ValidationResponse(valid, sentence, valid ? CORRECT_MESSAGE : INCORRECT_MESSAGE);
+    }
+
+    /**
+     * Returns the text of a word, or the fallback if the word is unknown.
+     */
+    public String wordText(long wordId, String fallback) {
+        int index = indexOf(wordId);
+        if (index < 0 || wordTexts[index] == null) {
+            return fallback;
+        }
+        return wordTexts[index];
+    }
+
+    /**
+     * Number of allowed combinations in the graph.
+     */
+    public int combinationCount() {
+        return triples.size();
+    }
+
+    /**
+     * The full exercise suggestion payload, prebuilt at compile time.
+     */
+    public SuggestionResponse suggestions() {
+        return suggestions;
+    }
+
+    /**
+     * The suggestion payload of one verb: the verb with its compatible subjects and objects, ordered by ID.
+     *
+     * @throws NoSuchElementException if the verb has no combinations.
+     */
+    public SuggestionResponse suggestions(Long verbId) {
+        VerbSuggestion verb = verbs.get(verbId);
+        if (verb == null) {
+            throw new NoSuchElementException("No combinations found for verb ID: " + verbId);
+        }
+
+        return new SuggestionResponse(
+                List.of(verb),
+                verb.compatibleSubjectIds().stream().map(subjects::get).toList(),
+                verb.compatibleObjectIds().stream().map(objects::get).toList()
+        );
+    }
+
+    public Map<Long, VerbSuggestion> verbs() {
+        return verbs;
+    }
+
+    public Map<Long, WordReference> subjects() {
+        return subjects;
+    }
+
+    public Map<Long, WordReference> objects() {
+        return objects;
+    }
+
+    private int indexOf(long wordId) {
+        return Arrays.binarySearch(wordIds, wordId);
+    }
+
+    /**
+     * The words are read in a separate query, so a word deleted in between has no text; its
+     * combinations are gone by the next rebuild.
+     */
+    private static WordReference reference(Map<Long, WordReference> wordsById, Long id) {
+        WordReference word = wordsById.get(id);
+        return word != null ? word : WordReference.of(id, null);
+    }
+
+    private static long[] collectWordIds(Collection<CombinationTuple> combinations, Collection<WordReference> words) {
+        Set<Long> ids = new HashSet<>();
+        for (WordReference word : words) {
+            ids.add(word.getId());
+        }
+        for (CombinationTuple combo : combinations) {
+            ids.add(combo.subjectId());
+            ids.add(combo.verbId());
+            ids.add(combo.objectId());
+        }
+
+        if (ids.size() > PackedTripleSet.MAX_INDEX) {
+            throw new IllegalStateException("Too many words to pack into the triple set: " + ids.size());
+        }
+
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static List<Long> sortedIds(Set<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+}
@@ -0,0 +1,97 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.WordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link CombinationGraph}.
+ * The graph is compiled on first use and recompiled only after a committed lexicon write,
+ * so the read path does not touch the database while the graph is warm.
+ */
+@Component
+public class CombinationIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CombinationIndex.class);
+
+    private final AllowedCombinationRepository combinationRepository;
+    private final WordRepository wordRepository;
+    private final AtomicLong generation = new AtomicLong();
+    // Not synchronized: a virtual thread waiting on the queries would pin its carrier thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public CombinationIndex(AllowedCombinationRepository combinationRepository, WordRepository wordRepository) {
+        this.combinationRepository = combinationRepository;
+        this.wordRepository = wordRepository;
+    }
+
+    /**
+     * Returns the current graph, compiling it first if it is missing or out of date.
+     */
+    public CombinationGraph current() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation == generation.get()) {
+            return current.graph;
+        }
+
+        return rebuild();
+    }
+
+    /**
+     * Marks the current graph as stale. The next read compiles a new one.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LexiconChangedEvent.INVALIDATION_ORDER)
+    public void onLexiconChanged(LexiconChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onLexiconVersionChanged(LexiconVersionChangedEvent event) {
+        invalidate();
+    }
+
+    private CombinationGraph rebuild() {
+        rebuildLock.lock();
+        try {
+            // Capture the generation before reading so a write committed during the rebuild
+            // leaves the new snapshot stale instead of being lost.
+            long target = generation.get();
+            Snapshot current = snapshot;
+            if (current != null && current.generation == target) {
+                return current.graph;
+            }
+
+            long start = System.nanoTime();
+            CombinationGraph graph = CombinationGraph.compile(
+                    combinationRepository.findAllTuples(),
+                    wordRepository.findAllReferences()
+            );
+            snapshot = new Snapshot(graph, target);
+
+            logger.debug("Compiled combination graph with {} verbs and {} combinations in {} ms",
+                    graph.verbs().size(), graph.combinationCount(), (System.nanoTime() - start) / 1_000_000);
+            return graph;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private record Snapshot(CombinationGraph graph, long generation) {
+    }
+}
@@ -2,41 +2,83 @@ package fi.vnest.speechtherapy.api.service;
 
 import fi.vnest.speechtherapy.api.dto.*;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.CombinationKey;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.CombinationBatchRepository;
 import fi.vnest.speechtherapy.api.repository.WordRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CombinationService {
 
-    private static final String CORRECT_MESSAGE = "Oikein! Hyvä lause.";
-    private static final String INCORRECT_MESSAGE = "Väärin. Tuo lause ei ole sallittu.";
-    private static final String UNKNOWN_SUBJECT = "[Unknown Subject]";
-    private static final String UNKNOWN_VERB = "[Unknown Verb]";
-    private static final String UNKNOWN_OBJECT = "[Unknown Object]";
-
     private final AllowedCombinationRepository combinationRepository;
     private final WordRepository wordRepository;
+    private final CombinationBatchRepository combinationBatchRepository;
+    private final CombinationIndex combinationIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CombinationService(AllowedCombinationRepository combinationRepository, WordRepository wordRepository) {
+    public CombinationService(AllowedCombinationRepository combinationRepository,
+                              WordRepository wordRepository,
+                              CombinationBatchRepository combinationBatchRepository,
+                              CombinationIndex combinationIndex,
+                              ApplicationEventPublisher eventPublisher) {
         this.combinationRepository = combinationRepository;
         this.wordRepository = wordRepository;
+        this.combinationBatchRepository = combinationBatchRepository;
+        this.combinationIndex = combinationIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Retrieves all combinations, optionally filtered by verb ID.
+     * Words are fetched in the same query so the results can be mapped without lazy loading.
      */
     public List<AllowedCombination> findAll(Long verbId) {
         return verbId != null
-                ? combinationRepository.findByVerbId(verbId)
-                : combinationRepository.findAll();
+                ? combinationRepository.findAllWithWordsByVerbId(verbId)
+                : combinationRepository.findAllWithWords();
+    }
+
+    /**
+     * Retrieves one keyset page of combinations ordered by ID, optionally filtered by verb ID.
+     *
+     * @param after Only combinations with a greater ID are returned (null starts from the beginning).
+     * @param limit Page size, clamped to {@link KeysetPage#MAX_LIMIT}.
+     */
+    public KeysetPage<CombinationRow> findPage(Long verbId, Long after, Integer limit) {
+        int pageSize = KeysetPage.normalizeLimit(limit);
+        long cursor = after != null ? after : 0L;
+        Limit lookahead = Limit.of(pageSize + 1);
+
+        List<CombinationRow> rows = verbId != null
+                ? combinationRepository.findRowsByVerbIdAfter(verbId, cursor, lookahead)
+                : combinationRepository.findRowsAfter(cursor, lookahead);
+
+        return KeysetPage.fromLookahead(rows, pageSize, CombinationRow::id);
+    }
+
+    /**
+     * Streams all combinations, optionally filtered by verb ID, to the consumer one at a time.
+     * Rows are read through a database cursor as flat projections, so memory use does not grow with the table.
+     */
+    @Transactional
+    public void exportCombinations(Long verbId, Consumer<CombinationResponse> consumer) {
+        try (Stream<CombinationRow> rows = verbId != null
+                ? combinationRepository.streamRowsByVerbId(verbId)
+                : combinationRepository.streamAllRows()) {
+            rows.map(CombinationRow::toResponse).forEach(consumer);
+        }
     }
 
     /**
@@ -51,122 +93,156 @@ public class CombinationService {
 
         validateCombinationDoesNotExist(request, subject, verb, object);
 
-        return combinationRepository.save(new AllowedCombination(subject, verb, object));
+        AllowedCombination saved = combinationRepository.save(new AllowedCombination(subject, verb, object));
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+        return saved;
     }
 
     /**
      * Creates a batch of combinations (Verb x Subjects x Objects).
-     * Skips combinations that already exist and counts only created ones.
+     * Existing combinations are read in one query and the difference is inserted in JDBC batches.
+     * Pairs that already exist or reference unknown words are skipped and counted.
      */
     @Transactional
-    public List<AllowedCombination> createCombinationsBatch(CombinationBatchRequest batchRequest) {
+    public CombinationBatchResult createCombinationsBatch(CombinationBatchRequest batchRequest) {
         Word verb = findWordOrThrow(batchRequest.getVerbId(), "Verb");
+        Set<Long> subjectIds = new LinkedHashSet<>(batchRequest.getSubjectIds());
+        Set<Long> objectIds = new LinkedHashSet<>(batchRequest.getObjectIds());
         Map<Long, Word> wordMap = fetchWordsAsMap(batchRequest.getSubjectIds(), batchRequest.getObjectIds());
 
-        List<AllowedCombination> combinationsToSave = buildCombinationsToSave(
-                verb,
-                batchRequest.getSubjectIds(),
-                batchRequest.getObjectIds(),
-                wordMap
-        );
+        Set<CombinationKey> existing = new HashSet<>(combinationRepository.findKeysByVerbId(verb.getId()));
+        Set<CombinationKey> toInsert = buildKeysToInsert(verb.getId(), subjectIds, objectIds, wordMap, existing);
+
+        // A concurrent write can add some of the keys after they were read; count what was actually inserted
+        Set<CombinationKey> inserted = new HashSet<>();
+        if (!toInsert.isEmpty()) {
+            int[] counts = combinationBatchRepository.insertIgnoringDuplicates(toInsert);
+            int i = 0;
+            for (CombinationKey key : toInsert) {
+                if (counts[i++] > 0) {
+                    inserted.add(key);
+                }
+            }
+        }
+
+        int skipped = subjectIds.size() * objectIds.size() - inserted.size();
+        if (inserted.isEmpty()) {
+            return new CombinationBatchResult(List.of(), skipped);
+        }
 
-        return combinationRepository.saveAll(combinationsToSave);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+
+        List<AllowedCombination> created = combinationRepository.findAllWithWordsByVerbId(verb.getId()).stream()
+                .filter(combo -> inserted.contains(new CombinationKey(
+                        combo.getSubject().getId(), verb.getId(), combo.getObject().getId())))
+                .collect(Collectors.toList());
+
+        return new CombinationBatchResult(created, skipped);
     }
 
     /**
-     * Deletes a specific combination by ID.
+     * Deletes a specific combination by ID in a single statement.
+     *
+     * @return The number of deleted combinations.
+     * @throws NoSuchElementException if the combination does not exist.
      */
     @Transactional
-    public void deleteCombination(Long id) {
-        if (!combinationRepository.existsById(id)) {
+    public int deleteCombination(Long id) {
+        int deleted = combinationRepository.deleteSingleById(id);
+        if (deleted == 0) {
             throw new NoSuchElementException("Allowed combination not found with ID: " + id);
         }
 
-        combinationRepository.deleteById(id);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+        return deleted;
+    }
+
+    /**
+     * Deletes the combinations with the given IDs in a single statement.
+     * IDs that do not exist are ignored; the returned count tells how many were found.
+     * One event is published for the whole delete, however many verbs it touches.
+     *
+     * @return The number of deleted combinations.
+     */
+    @Transactional
+    public int deleteCombinations(Collection<Long> ids) {
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        if (uniqueIds.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = combinationRepository.deleteAllByIdIn(uniqueIds);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new LexiconChangedEvent());
+        }
+        return deleted;
     }
 
     /**
-     * Deletes all combinations associated with a specific verb ID.
+     * Deletes all combinations associated with a specific verb ID in a single statement.
      * Throws NoSuchElementException if the verb ID doesn't exist.
+     *
+     * @return The number of deleted combinations.
      */
     @Transactional
-    public void deleteCombinationsByVerb(Long verbId) {
+    public int deleteCombinationsByVerb(Long verbId) {
         if (!wordRepository.existsById(verbId)) {
             throw new NoSuchElementException("Verb word not found with ID: " + verbId);
         }
 
-        combinationRepository.deleteAllByVerbId(verbId);
+        int deleted = combinationRepository.deleteAllByVerbId(verbId);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new LexiconChangedEvent());
+        }
+        return deleted;
     }
 
     /**
      * Retrieves data structure for generating sentence building exercises.
+     * Served from the compiled combination graph, so no queries run while it is warm.
      *
      * @param limit Maximum number of verbs to include (currently unused but supports future feature).
      */
     public SuggestionResponse getExerciseSuggestions(Integer limit) {
-        List<AllowedCombination> allCombinations = combinationRepository.findAll();
-
-        CombinationGrouping grouping = groupCombinationsByVerb(allCombinations);
-        List<VerbSuggestion> verbSuggestions = buildVerbSuggestions(grouping);
-
-        List<WordReference> subjectRefs = fetchWordReferences(grouping.allSubjectIds);
-        List<WordReference> objectRefs = fetchWordReferences(grouping.allObjectIds);
-
-        return new SuggestionResponse(verbSuggestions, subjectRefs, objectRefs);
+        return combinationIndex.current().suggestions();
     }
 
     /**
      * Retrieves a SuggestionResponse for a specific verb.
+     * Served from the compiled combination graph, so no queries run while it is warm.
      *
      * @param verbId The ID of the verb.
      * @return A SuggestionResponse containing the verb, subjects, and objects.
+     * @throws NoSuchElementException if the verb has no combinations.
      */
     public SuggestionResponse getSuggestionsByVerb(Long verbId) {
-        List<AllowedCombination> combinations = combinationRepository.findByVerbId(verbId);
-
-        if (combinations.isEmpty()) {
-            throw new NoSuchElementException("No combinations found for verb ID: " + verbId);
-        }
-
-        Word verb = combinations.get(0).getVerb();
-
-        Set<Long> subjectIds = combinations.stream()
-                .map(combo -> combo.getSubject().getId())
-                .collect(Collectors.toSet());
-
-        Set<Long> objectIds = combinations.stream()
-                .map(combo -> combo.getObject().getId())
-                .collect(Collectors.toSet());
-
-        List<WordReference> subjects = fetchWordReferences(subjectIds);
-        List<WordReference> objects = fetchWordReferences(objectIds);
-
-        VerbSuggestion verbSuggestion = new VerbSuggestion(
-                verb.getId(),
-                verb.getText(),
-                verb.getGroup().getId(),
-                subjectIds.stream().toList(),
-                objectIds.stream().toList()
-        );
-
-        return new SuggestionResponse(List.of(verbSuggestion), subjects, objects);
+        return combinationIndex.current().suggestions(verbId);
     }
 
     /**
      * Validates if a specific S-V-O combination exists.
+     * Answered from the compiled combination graph without database round trips.
      */
     public ValidationResponse validateCombination(ValidationRequest request) {
-        Optional<AllowedCombination> combination = combinationRepository.findBySubjectIdAndVerbIdAndObjectId(
-                request.subjectId(),
-                request.verbId(),
-                request.objectId()
-        );
+        return combinationIndex.current().validate(request);
+    }
 
-        return combination.map(this::buildValidResponse).orElseGet(() -> buildInvalidResponse(request));
+    /**
+     * Validates several S-V-O combinations against the same graph snapshot.
+     *
+     * @return One response per request, in request order.
+     */
+    public List<ValidationResponse> validateCombinations(List<ValidationRequest> requests) {
+        CombinationGraph graph = combinationIndex.current();
+        List<ValidationResponse> responses = new ArrayList<>(requests.size());
+        for (ValidationRequest request : requests) {
+            responses.add(graph.validate(request));
+        }
+        return responses;
     }
 
     public AllowedCombination findById(Long id) {
-        return combinationRepository.findById(id)
+        return combinationRepository.findWithWordsById(id)
                 .orElseThrow(() -> new NoSuchElementException("Allowed combination not found with ID: " + id));
     }
 
@@ -196,103 +272,28 @@ public class CombinationService {
                 .collect(Collectors.toMap(Word::getId, word -> word));
     }
 
-    private List<AllowedCombination> buildCombinationsToSave(
-            Word verb,
-            List<Long> subjectIds,
-            List<Long> objectIds,
-            Map<Long, Word> wordMap) {
+    private Set<CombinationKey> buildKeysToInsert(
+            Long verbId,
+            Set<Long> subjectIds,
+            Set<Long> objectIds,
+            Map<Long, Word> wordMap,
+            Set<CombinationKey> existing) {
 
-        List<AllowedCombination> combinationsToSave = new ArrayList<>();
+        Set<CombinationKey> keysToInsert = new LinkedHashSet<>();
 
         for (Long subjectId : subjectIds) {
-            Word subject = wordMap.get(subjectId);
-            if (subject == null) continue;
+            if (!wordMap.containsKey(subjectId)) continue;
 
             for (Long objectId : objectIds) {
-                Word object = wordMap.get(objectId);
-                if (object == null) continue;
+                if (!wordMap.containsKey(objectId)) continue;
 
-                if (isNewCombination(subjectId, verb.getId(), objectId)) {
-                    combinationsToSave.add(new AllowedCombination(subject, verb, object));
+                CombinationKey key = new CombinationKey(subjectId, verbId, objectId);
+                if (!existing.contains(key)) {
+                    keysToInsert.add(key);
                 }
             }
         }
 
-        return combinationsToSave;
-    }
-
-    private boolean isNewCombination(Long subjectId, Long verbId, Long objectId) {
-        return combinationRepository.findBySubjectIdAndVerbIdAndObjectId(subjectId, verbId, objectId).isEmpty();
-    }
-
-    private CombinationGrouping groupCombinationsByVerb(List<AllowedCombination> combinations) {
-        CombinationGrouping grouping = new CombinationGrouping();
-
-        for (AllowedCombination combo : combinations) {
-            Long verbId = combo.getVerb().getId();
-            Long subjectId = combo.getSubject().getId();
-            Long objectId = combo.getObject().getId();
-
-            grouping.verbWords.put(verbId, combo.getVerb());
-            grouping.verbToSubjectIds.computeIfAbsent(verbId, k -> new HashSet<>()).add(subjectId);
-            grouping.verbToObjectIds.computeIfAbsent(verbId, k -> new HashSet<>()).add(objectId);
-            grouping.allSubjectIds.add(subjectId);
-            grouping.allObjectIds.add(objectId);
-        }
-
-        return grouping;
-    }
-
-    private List<VerbSuggestion> buildVerbSuggestions(CombinationGrouping grouping) {
-        return grouping.verbWords.values().stream()
-                .map(verb -> new VerbSuggestion(
-                        verb.getId(),
-                        verb.getText(),
-                        verb.getGroup().getId(),
-                        grouping.verbToSubjectIds.getOrDefault(verb.getId(), Collections.emptySet()).stream().toList(),
-                        grouping.verbToObjectIds.getOrDefault(verb.getId(), Collections.emptySet()).stream().toList()
-                ))
-                .collect(Collectors.toList());
-    }
-
-    private List<WordReference> fetchWordReferences(Set<Long> wordIds) {
-        return wordRepository.findAllById(wordIds).stream()
-                .map(WordReference::fromEntity)
-                .collect(Collectors.toList());
-    }
-
-    private ValidationResponse buildValidResponse(AllowedCombination combo) {
-        String sentence = formatSentence(
-                combo.getSubject().getText(),
-                combo.getVerb().getText(),
-                combo.getObject().getText()
-        );
-        return new ValidationResponse(true, sentence, CORRECT_MESSAGE);
-    }
-
-    private ValidationResponse buildInvalidResponse(ValidationRequest request) {
-        Word subject = wordRepository.findById(request.subjectId()).orElse(null);
-        Word verb = wordRepository.findById(request.verbId()).orElse(null);
-        Word object = wordRepository.findById(request.objectId()).orElse(null);
-
-        String sentence = formatSentence(
-                subject != null ? subject.getText() : UNKNOWN_SUBJECT,
-                verb != null ? verb.getText() : UNKNOWN_VERB,
-                object != null ? object.getText() : UNKNOWN_OBJECT
-        );
-
-        return new ValidationResponse(false, sentence, INCORRECT_MESSAGE);
-    }
-
-    private String formatSentence(String subject, String verb, String object) {
-        return String.format("%s %s %s", subject, verb, object);
-    }
-
-    private static class CombinationGrouping {
-        Map<Long, Set<Long>> verbToSubjectIds = new HashMap<>();
-        Map<Long, Set<Long>> verbToObjectIds = new HashMap<>();
-        Map<Long, Word> verbWords = new HashMap<>();
-        Set<Long> allSubjectIds = new HashSet<>();
-        Set<Long> allObjectIds = new HashSet<>();
+        return keysToInsert;
     }
 }
\ No newline at end of file
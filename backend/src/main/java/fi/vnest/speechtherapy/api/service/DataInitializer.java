@@ -1,31 +1,26 @@
 package fi.vnest.speechtherapy.api.service;
 
-import fi.vnest.speechtherapy.api.dto.CombinationRequest;
-import fi.vnest.speechtherapy.api.model.Word;
-import fi.vnest.speechtherapy.api.model.WordGroup;
-import fi.vnest.speechtherapy.api.model.WordType;
 import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
-import fi.vnest.speechtherapy.api.repository.GroupRepository;
 import fi.vnest.speechtherapy.api.repository.WordRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
-import org.springframework.core.annotation.Order;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * Imports the bundled lexicon CSV into an empty database.
+ * Run in the background by {@link StartupInitializer}, which logs a failed import and marks its phase as failed.
+ */
 @Component
-@Order(2)
-public class DataInitializer implements ApplicationRunner {
+public class DataInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
 
@@ -36,10 +31,7 @@ public class DataInitializer implements ApplicationRunner {
     private AllowedCombinationRepository combinationRepository;
 
     @Autowired
-    private GroupRepository groupRepository;
-
-    @Autowired
-    private fi.vnest.speechtherapy.api.service.CombinationService combinationService;
+    private LexiconImporter lexiconImporter;
 
     @Value("${app.data.csv.path:data/vnest_full.csv}")
     private String csvPath;
@@ -47,11 +39,10 @@ public class DataInitializer implements ApplicationRunner {
     @Value("${app.data.csv.enabled:true}")
     private boolean csvEnabled;
 
-    private Map<String, Word> wordCache = new HashMap<>();
-    private Map<String, WordGroup> groupCache = new HashMap<>();
-
-    @Override
-    public void run(ApplicationArguments args) {
+    /**
+     * @throws UncheckedIOException if the CSV cannot be read.
+     */
+    public void run() {
         if (!csvEnabled) {
             logger.info("CSV data import is disabled");
             return;
@@ -67,159 +58,27 @@ public class DataInitializer implements ApplicationRunner {
 
         try {
             importCsvData();
-            logger.info("CSV data import completed successfully!");
-            logger.info("Total words: {}, Total combinations: {}",
-                    wordRepository.count(),
-                    combinationRepository.count());
-        } catch (Exception e) {
-            logger.error("Failed to import CSV data", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV data from " + csvPath, e);
         }
+
+        logger.info("CSV data import completed successfully!");
+        logger.info("Total words: {}, Total combinations: {}",
+                wordRepository.count(),
+                combinationRepository.count());
     }
 
-    private void importCsvData() throws Exception {
+    private void importCsvData() throws IOException {
         ClassPathResource resource = new ClassPathResource(csvPath);
 
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
 
-            String line;
-            boolean isFirstLine = true;
-            int lineNumber = 0;
-            int successCount = 0;
-            int errorCount = 0;
-
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-
-                // Skip header
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-
-                // Skip empty lines
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-
-                try {
-                    processLine(line, lineNumber);
-                    successCount++;
-                } catch (Exception e) {
-                    errorCount++;
-                    logger.error("Error processing line {}: {}", lineNumber, line, e);
-                }
-            }
-
-            logger.info("Import summary: {} successful, {} errors", successCount, errorCount);
-        }
-    }
-
-    private void processLine(String line, int lineNumber) {
-        String[] parts = line.split(";");
-
-        if (parts.length != 4) {
-            throw new IllegalArgumentException(
-                    "Invalid CSV format. Expected 4 columns, found " + parts.length);
-        }
-
-        String sectionText = parts[0].trim();
-        String subjectText = parts[1].trim();
-        String verbText = parts[2].trim();
-        String objectText = parts[3].trim();
-
-        if (sectionText.isEmpty() || subjectText.isEmpty() || verbText.isEmpty() || objectText.isEmpty()) {
-            throw new IllegalArgumentException("Empty word found in CSV");
-        }
-
-        // Get or create group
-        WordGroup group = getOrCreateGroup(sectionText);
-
-        // Get or create words
-        Word subject = getOrCreateWord(subjectText, WordType.SUBJECT, null);
-        Word verb = getOrCreateWord(verbText, WordType.VERB, group);
-        Word object = getOrCreateWord(objectText, WordType.OBJECT, null);
-
-        // Create combination
-        createCombinationIfNotExists(subject, verb, object);
-    }
-
-    private Word getOrCreateWord(String text, WordType type, WordGroup group) {
-        // Include group ID in cache key for verbs to allow same verb text in different groups
-        String cacheKey = type + ":" + text;
-        if (type == WordType.VERB && group != null) {
-            cacheKey = cacheKey + ":" + group.getId();
-        }
-
-        // Check cache first
-        if (wordCache.containsKey(cacheKey)) {
-            return wordCache.get(cacheKey);
-        }
-
-        // Check if word exists in database (for verbs, check by text, type, AND group)
-        Word word;
-        if (type == WordType.VERB && group != null) {
-            word = wordRepository.findByTextAndTypeAndGroupId(text, type, group.getId())
-                    .orElseGet(() -> {
-                        // Create new word instance for this group
-                        Word newWord = new Word(text, type);
-                        newWord.setGroup(group);
-                        Word saved = wordRepository.save(newWord);
-                        logger.debug("Created new {} word: {} (group: {})", type, text, group.getName());
-                        return saved;
-                    });
-        } else {
-            word = wordRepository.findByTextAndType(text, type)
-                    .orElseGet(() -> {
-                        // Create new word
-                        Word newWord = new Word(text, type);
-                        Word saved = wordRepository.save(newWord);
-                        logger.debug("Created new {} word: {} (group: none)", type, text);
-                        return saved;
-                    });
-        }
-
-        // Cache the word
-        wordCache.put(cacheKey, word);
-        return word;
-    }
-
-    private WordGroup getOrCreateGroup(String name) {
-        // Check cache first
-        if (groupCache.containsKey(name)) {
-            return groupCache.get(name);
-        }
-
-        // Check if group exists in database
-        WordGroup group = groupRepository.findByName(name)
-                .orElseGet(() -> {
-                    // Create new group
-                    WordGroup newGroup = new WordGroup(name, "Section " + name);
-                    WordGroup saved = groupRepository.save(newGroup);
-                    logger.debug("Created new group: {}", name);
-                    return saved;
-                });
-
-        // Cache the group
-        groupCache.put(name, group);
-        return group;
-    }
+            LexiconImportReport report = lexiconImporter.importCsv(reader);
 
-    private void createCombinationIfNotExists(Word subject, Word verb, Word object) {
-        // Check if combination already exists
-        boolean exists = combinationRepository.findBySubjectIdAndVerbIdAndObjectId(
-                subject.getId(), verb.getId(), object.getId()
-        ).isPresent();
-
-        if (!exists) {
-            CombinationRequest request = new CombinationRequest();
-            request.setSubjectId(subject.getId());
-            request.setVerbId(verb.getId());
-            request.setObjectId(object.getId());
-
-            combinationService.createCombination(request);
-            logger.debug("Created combination: {} {} {}",
-                    subject.getText(), verb.getText(), object.getText());
+            logger.info("Import summary: {} successful, {} errors", report.entries(), report.errors().size());
+            logger.info("Created {} groups, {} words and {} combinations",
+                    report.groupsCreated(), report.wordsCreated(), report.combinationsCreated());
         }
     }
 }
@@ -0,0 +1,22 @@
+package fi.vnest.speechtherapy.api.service;
+
+/**
+ * Published by the services whenever words, groups or combinations are modified, once per transaction.
+ * Listeners use it to drop in-memory views of the lexicon once the change is committed; every view is rebuilt
+ * in full, so the event does not say what changed.
+ * <p>
+ * The views are dropped before {@link LexiconVersionService} publishes the new version, so a request that sees
+ * the new ETag also sees the new data. Listeners that drop views use {@link #INVALIDATION_ORDER}.
+ */
+public record LexiconChangedEvent() {
+
+    /**
+     * Order of the after-commit listeners that drop in-memory views.
+     */
+    public static final int INVALIDATION_ORDER = 0;
+
+    /**
+     * Order of the after-commit listener that publishes the new version; runs after every invalidation.
+     */
+    public static final int VERSION_ORDER = 100;
+}
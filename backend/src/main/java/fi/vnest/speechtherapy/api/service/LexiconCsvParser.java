@@ -0,0 +1,182 @@
+package fi.vnest.speechtherapy.api.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Parses the lexicon CSV format ({@code SECTION;SUBJECT;VERB;OBJECT} with a header line).
+ * Blank lines are skipped; malformed lines are collected as errors with their line number instead of aborting.
+ * <p>
+ * Large files can be parsed on a thread pool: the reader cuts the input into chunks of whole lines and submits
+ * each chunk as soon as it is read, so reading overlaps with parsing. Each chunk is parsed and deduplicated on
+ * its own, and the chunks are merged in file order. The result is identical to a sequential parse.
+ */
+public final class LexiconCsvParser {
+
+    private static final int COLUMNS = 4;
+    // Bounds how far the reader may run ahead of the parsers, in chunks
+    private static final int MAX_PENDING_CHUNKS = 16;
+
+    private LexiconCsvParser() {
+    }
+
+    /**
+     * Outcome of parsing a whole file.
+     *
+     * @param entryCount Number of valid lines, duplicates included.
+     * @param triples    Distinct entries in order of first appearance.
+     * @param errors     One message per rejected line in file order, prefixed with its line number.
+     */
+    public record Result(int entryCount, Set<LexiconEntry> triples, List<String> errors) {
+    }
+
+    /**
+     * Parses the file line by line on the calling thread.
+     */
+    public static Result parse(BufferedReader reader) throws IOException {
+        Chunk chunk = new Chunk();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            chunk.add(++lineNumber, line);
+        }
+
+        return chunk.toResult();
+    }
+
+    /**
+     * Reads the file in chunks of {@code chunkLines} lines and parses each chunk on {@code pool} while the next
+     * one is read. The last, partial chunk is parsed on the calling thread, so files no bigger than one chunk
+     * never touch the pool.
+     */
+    public static Result parse(BufferedReader reader, ExecutorService pool, int chunkLines) throws IOException {
+        int size = Math.max(1, chunkLines);
+        Deque<Future<Chunk>> pending = new ArrayDeque<>();
+        Chunk result = new Chunk();
+
+        try {
+            List<String> lines = new ArrayList<>(size);
+            int firstLine = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() < size) {
+                    continue;
+                }
+
+                List<String> chunk = lines;
+                int chunkStart = firstLine;
+                pending.add(pool.submit(() -> Chunk.of(chunkStart, chunk)));
+                firstLine += size;
+                lines = new ArrayList<>(size);
+
+                // Merge finished chunks early, and wait for the oldest one if the reader is too far ahead
+                while (!pending.isEmpty() && (pending.peek().isDone() || pending.size() > MAX_PENDING_CHUNKS)) {
+                    result.append(await(pending.poll()));
+                }
+            }
+
+            Chunk last = Chunk.of(firstLine, lines);
+            while (!pending.isEmpty()) {
+                result.append(await(pending.poll()));
+            }
+            return result.append(last).toResult();
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing the lexicon CSV");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    static LexiconEntry parseLine(String line) {
+        String[] parts = line.split(";");
+
+        if (parts.length != COLUMNS) {
+            throw new IllegalArgumentException(
+                    "Invalid CSV format. Expected " + COLUMNS + " columns, found " + parts.length);
+        }
+
+        String sectionText = parts[0].trim();
+        String subjectText = parts[1].trim();
+        String verbText = parts[2].trim();
+        String objectText = parts[3].trim();
+
+        if (sectionText.isEmpty() || subjectText.isEmpty() || verbText.isEmpty() || objectText.isEmpty()) {
+            throw new IllegalArgumentException("Empty word found in CSV");
+        }
+
+        return new LexiconEntry(sectionText, subjectText, verbText, objectText);
+    }
+
+    /**
+     * Parsed and locally deduplicated lines of one contiguous range of the file.
+     */
+    private static final class Chunk {
+
+        private int entryCount;
+        private final LinkedHashSet<LexiconEntry> triples = new LinkedHashSet<>();
+        private final List<String> errors = new ArrayList<>();
+
+        static Chunk of(int firstLineNumber, List<String> lines) {
+            Chunk chunk = new Chunk();
+            for (int i = 0; i < lines.size(); i++) {
+                chunk.add(firstLineNumber + i, lines.get(i));
+            }
+            return chunk;
+        }
+
+        void add(int lineNumber, String line) {
+            // Skip header and empty lines
+            if (lineNumber == 1 || line.isBlank()) {
+                return;
+            }
+
+            try {
+                triples.add(parseLine(line));
+                entryCount++;
+            } catch (IllegalArgumentException e) {
+                errors.add("Line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+
+        /**
+         * Appends a chunk that directly follows this one in the file, keeping first-appearance order.
+         */
+        Chunk append(Chunk next) {
+            entryCount += next.entryCount;
+            triples.addAll(next.triples);
+            errors.addAll(next.errors);
+            return this;
+        }
+
+        Result toResult() {
+            return new Result(entryCount, triples, errors);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package fi.vnest.speechtherapy.api.service;
+
+/**
+ * One parsed CSV line of the lexicon: a section (verb group) and a subject-verb-object triple, trimmed.
+ */
+public record LexiconEntry(
+        String section,
+        String subject,
+        String verb,
+        String object
+) {
+}
@@ -0,0 +1,35 @@
+package fi.vnest.speechtherapy.api.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a lexicon CSV import.
+ *
+ * @param entries               Valid CSV lines read, duplicates included.
+ * @param errors                Rejected lines, prefixed with their line number.
+ * @param groupsCreated         Groups that did not exist before.
+ * @param wordsCreated          Words that did not exist before.
+ * @param combinationsCreated   Combinations in the file that did not exist before.
+ * @param combinationsDeleted   Existing combinations that are no longer in the file.
+ * @param combinationsUnchanged Combinations both in the file and in the database.
+ * @param stageMillis           Wall time of each import stage in execution order.
+ */
+public record LexiconImportReport(
+        int entries,
+        List<String> errors,
+        int groupsCreated,
+        int wordsCreated,
+        int combinationsCreated,
+        int combinationsDeleted,
+        int combinationsUnchanged,
+        Map<String, Long> stageMillis
+) {
+
+    /**
+     * Whether the import wrote anything.
+     */
+    public boolean changed() {
+        return groupsCreated + wordsCreated + combinationsCreated + combinationsDeleted > 0;
+    }
+}
@@ -0,0 +1,227 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.dto.LexiconImportProgress;
+import fi.vnest.speechtherapy.api.model.CombinationKey;
+import fi.vnest.speechtherapy.api.model.WordKey;
+import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.repository.CombinationBatchRepository;
+import fi.vnest.speechtherapy.api.repository.LexiconBatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StopWatch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Synchronizes the lexicon with a CSV file in four stages: parse the whole file (in parallel chunks on a pool of
+ * its own if {@code app.data.csv.parallel=true}), dedupe groups, words and triples in memory, diff them against the
+ * current rows, then apply only the inserts and deletes with JDBC batches in a single transaction.
+ * <p>
+ * The file is the full lexicon: combinations missing from it are deleted. Groups and words are only ever
+ * added, since admins may create words before combining them. Re-importing an unchanged file reads each
+ * table once and writes nothing.
+ */
+@Service
+public class LexiconImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LexiconImporter.class);
+
+    private final LexiconBatchRepository lexiconBatchRepository;
+    private final CombinationBatchRepository combinationBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean parallel;
+    private final int chunkLines;
+
+    @Autowired
+    public LexiconImporter(LexiconBatchRepository lexiconBatchRepository,
+                           CombinationBatchRepository combinationBatchRepository,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${app.data.csv.parallel:false}") boolean parallel,
+                           @Value("${app.data.csv.chunk-lines:10000}") int chunkLines) {
+        this.lexiconBatchRepository = lexiconBatchRepository;
+        this.combinationBatchRepository = combinationBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.parallel = parallel;
+        this.chunkLines = chunkLines;
+    }
+
+    /**
+     * Reads the CSV to the end and imports its valid lines. Invalid lines are reported, not fatal.
+     * The rows bypass WordService; its caches are dropped by the LexiconChangedEvent published when anything changed.
+     */
+    public LexiconImportReport importCsv(BufferedReader reader) throws IOException {
+        return importCsv(reader, progress -> {
+        });
+    }
+
+    /**
+     * Same as {@link #importCsv(BufferedReader)}, reporting each stage to {@code listener} as soon as it finishes.
+     */
+    public LexiconImportReport importCsv(BufferedReader reader, Consumer<LexiconImportProgress> listener)
+            throws IOException {
+        Stages stages = new Stages(listener);
+
+        stages.start("parse");
+        LexiconCsvParser.Result parsed = parse(reader);
+        stages.stop();
+
+        for (String error : parsed.errors()) {
+            logger.error("Error processing {}", error);
+        }
+
+        // The parser already dedupes the triples, so only the groups are left to collect
+        stages.start("dedupe");
+        Set<String> groups = new LinkedHashSet<>();
+        Set<LexiconEntry> triples = parsed.triples();
+        for (LexiconEntry entry : triples) {
+            groups.add(entry.section());
+        }
+        stages.stop();
+
+        LexiconImportReport report = transactionTemplate.execute(status -> {
+            stages.start("groups");
+            Map<String, Long> groupIds = lexiconBatchRepository.findGroupIds();
+            List<String> newGroups = groups.stream()
+                    .filter(name -> !groupIds.containsKey(name))
+                    .toList();
+            if (!newGroups.isEmpty()) {
+                lexiconBatchRepository.insertGroups(newGroups);
+                groupIds.putAll(lexiconBatchRepository.findGroupIds());
+            }
+            stages.stop();
+
+            stages.start("words");
+            Map<WordKey, Long> wordIds = lexiconBatchRepository.findWordIds();
+            Set<WordKey> newWords = new LinkedHashSet<>();
+            for (LexiconEntry entry : triples) {
+                Long groupId = groupIds.get(entry.section());
+                for (WordKey word : wordKeys(entry, groupId)) {
+                    if (!wordIds.containsKey(word)) {
+                        newWords.add(word);
+                    }
+                }
+            }
+            wordIds.putAll(lexiconBatchRepository.insertWords(newWords));
+            stages.stop();
+
+            stages.start("combinations");
+            Map<CombinationKey, Long> existing = combinationBatchRepository.findAllIds();
+            Set<CombinationKey> wanted = new LinkedHashSet<>();
+            List<CombinationKey> toInsert = new ArrayList<>();
+            for (LexiconEntry entry : triples) {
+                WordKey[] words = wordKeys(entry, groupIds.get(entry.section()));
+                CombinationKey key = new CombinationKey(
+                        wordIds.get(words[0]), wordIds.get(words[1]), wordIds.get(words[2]));
+                if (wanted.add(key) && !existing.containsKey(key)) {
+                    toInsert.add(key);
+                }
+            }
+
+            // A file without a single valid line is treated as a mistake rather than "delete everything"
+            List<Long> toDelete = new ArrayList<>();
+            if (!wanted.isEmpty()) {
+                existing.forEach((key, id) -> {
+                    if (!wanted.contains(key)) {
+                        toDelete.add(id);
+                    }
+                });
+            }
+
+            int inserted = 0;
+            for (int count : combinationBatchRepository.insertIgnoringDuplicates(toInsert)) {
+                inserted += count;
+            }
+            combinationBatchRepository.deleteByIds(toDelete);
+            stages.stop();
+
+            LexiconImportReport result = new LexiconImportReport(
+                    parsed.entryCount(),
+                    parsed.errors(),
+                    newGroups.size(),
+                    newWords.size(),
+                    inserted,
+                    toDelete.size(),
+                    wanted.size() - inserted,
+                    stages.millis()
+            );
+            if (result.changed()) {
+                eventPublisher.publishEvent(new LexiconChangedEvent());
+            }
+            return result;
+        });
+
+        logger.info("Lexicon import stages:\n{}", stages.watch.prettyPrint(TimeUnit.MILLISECONDS));
+        return report;
+    }
+
+    /**
+     * Parses on the calling thread, or on a pool created for this import when parallel parsing is enabled.
+     */
+    private LexiconCsvParser.Result parse(BufferedReader reader) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (!parallel || threads < 2) {
+            return LexiconCsvParser.parse(reader);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("lexicon-parse-"));
+        try {
+            return LexiconCsvParser.parse(reader, pool, chunkLines);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static WordKey[] wordKeys(LexiconEntry entry, Long groupId) {
+        return new WordKey[]{
+                WordKey.of(entry.subject(), WordType.SUBJECT, null),
+                WordKey.of(entry.verb(), WordType.VERB, groupId),
+                WordKey.of(entry.object(), WordType.OBJECT, null)
+        };
+    }
+
+    /**
+     * Times the stages and tells the listener about each one as it finishes.
+     */
+    private static final class Stages {
+
+        private final StopWatch watch = new StopWatch("lexicon import");
+        private final Consumer<LexiconImportProgress> listener;
+
+        Stages(Consumer<LexiconImportProgress> listener) {
+            this.listener = listener;
+        }
+
+        void start(String stage) {
+            watch.start(stage);
+        }
+
+        void stop() {
+            watch.stop();
+            StopWatch.TaskInfo task = watch.lastTaskInfo();
+            listener.accept(new LexiconImportProgress(task.getTaskName(), task.getTimeMillis()));
+        }
+
+        Map<String, Long> millis() {
+            Map<String, Long> millis = new LinkedHashMap<>();
+            for (StopWatch.TaskInfo task : watch.getTaskInfo()) {
+                millis.put(task.getTaskName(), task.getTimeMillis());
+            }
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package fi.vnest.speechtherapy.api.service;
+
+/**
+ * Published by {@link LexiconVersionService} when polling finds a stored lexicon version newer than the one
+ * this instance knows about: another instance wrote to the lexicon, or rows were changed outside the services.
+ * Listeners drop all their in-memory views, as for a {@link LexiconChangedEvent} without a verb, but the
+ * version is not bumped again.
+ *
+ * @param version The stored version that was found.
+ */
+public record LexiconVersionChangedEvent(long version) {
+}
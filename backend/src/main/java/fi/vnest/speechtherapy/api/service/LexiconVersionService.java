@@ -0,0 +1,122 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.model.LexiconVersion;
+import fi.vnest.speechtherapy.api.repository.LexiconVersionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the lexicon version stored in the database and derives ETags from it.
+ * The counter is bumped inside the transaction of every lexicon write, and the cached value
+ * is refreshed once the write commits, so reading the version does not query the database.
+ * <p>
+ * Writes made by other instances, or directly in the database, publish no event here. The stored version is
+ * therefore also polled ({@code app.lexicon.version-poll-interval}); when it is ahead, the in-memory views are
+ * dropped through a {@link LexiconVersionChangedEvent} before the new version is taken into use.
+ */
+@Service
+public class LexiconVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LexiconVersionService.class);
+
+    private final LexiconVersionRepository versionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicLong cachedVersion = new AtomicLong();
+
+    @Autowired
+    public LexiconVersionService(LexiconVersionRepository versionRepository, ApplicationEventPublisher eventPublisher) {
+        this.versionRepository = versionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Reads the stored version when the application starts, before any in-memory view of the lexicon is built,
+     * so a view is never older than the version it is served with.
+     */
+    @PostConstruct
+    public void init() {
+        cachedVersion.accumulateAndGet(findStoredVersion(), Math::max);
+    }
+
+    /**
+     * Returns the version of the last committed lexicon write.
+     */
+    public long current() {
+        return cachedVersion.get();
+    }
+
+    /**
+     * Returns a strong ETag for the current lexicon version.
+     */
+    public String etag() {
+        return "\"" + current() + "\"";
+    }
+
+    /**
+     * Returns a strong ETag for another representation (e.g. NDJSON) of the same resource.
+     */
+    public String etag(String variant) {
+        return "\"" + current() + "-" + variant + "\"";
+    }
+
+    /**
+     * Bumps the stored version in the same transaction as the write that published the event,
+     * so the new version becomes visible exactly when the write does.
+     */
+    @EventListener
+    @Transactional
+    public void bump(LexiconChangedEvent event) {
+        if (versionRepository.increment(LexiconVersion.SINGLETON_ID) == 0) {
+            versionRepository.save(new LexiconVersion(LexiconVersion.SINGLETON_ID, 1L));
+        }
+    }
+
+    /**
+     * Runs after the listeners that drop the views this write affected, see {@link LexiconChangedEvent}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LexiconChangedEvent.VERSION_ORDER)
+    public void onLexiconChanged(LexiconChangedEvent event) {
+        sync(1);
+    }
+
+    /**
+     * Picks up versions committed by other instances or outside the services.
+     */
+    @Scheduled(fixedDelayString = "${app.lexicon.version-poll-interval:5s}",
+            initialDelayString = "${app.lexicon.version-poll-interval:5s}")
+    public void poll() {
+        sync(0);
+    }
+
+    /**
+     * Takes the stored version into use. If it is ahead of the known one by more than the writes whose
+     * views were already dropped, all views are dropped first, so the new ETag is never paired with a body
+     * built from an older lexicon.
+     */
+    private void sync(long ownWrites) {
+        long known = cachedVersion.get();
+        long stored = findStoredVersion();
+        if (stored > known + ownWrites) {
+            logger.debug("Lexicon version {} found, {} known; dropping in-memory views", stored, known);
+            eventPublisher.publishEvent(new LexiconVersionChangedEvent(stored));
+        }
+        // Commits can finish out of order; never move the cached version backwards.
+        cachedVersion.accumulateAndGet(stored, Math::max);
+    }
+
+    private long findStoredVersion() {
+        return versionRepository.findVersion(LexiconVersion.SINGLETON_ID).orElse(0L);
+    }
+}
@@ -0,0 +1,80 @@
+package fi.vnest.speechtherapy.api.service;
+
+/**
+ * Open-addressing hash set of subject-verb-object triples, each packed into a single {@code long}.
+ * Triples are expressed as dense word indices (not database IDs), 21 bits per position.
+ * Lookups do not allocate.
+ */
+final class PackedTripleSet {
+
+    static final int MAX_INDEX = (1 << 21) - 1;
+
+    private static final long EMPTY = 0L;
+    private static final int BITS = 21;
+
+    private final long[] table;
+    private final int mask;
+    private int size;
+
+    PackedTripleSet(int expectedSize) {
+        // Keep the load factor at or below 0.5 so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Packs three dense indices into one key. Indices are shifted by one so that no valid key equals {@link #EMPTY}.
+     */
+    static long pack(int subject, int verb, int object) {
+        return ((long) (subject + 1) << (2 * BITS)) | ((long) (verb + 1) << BITS) | (object + 1);
+    }
+
+    void add(int subject, int verb, int object) {
+        long key = pack(subject, verb, object);
+        int slot = slot(key);
+
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = key;
+        size++;
+    }
+
+    boolean contains(int subject, int verb, int object) {
+        if (subject < 0 || verb < 0 || object < 0) {
+            return false;
+        }
+
+        long key = pack(subject, verb, object);
+        int slot = slot(key);
+
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        // MurmurHash3 finalizer to spread the packed bits across the table
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,155 @@
+package fi.vnest.speechtherapy.api.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the slow startup tasks on background threads so the web server, and with it the liveness probe,
+ * comes up right away. The readiness probe stays out of service until every phase has finished
+ * (see {@code InitializationHealthIndicator}); the per-phase timings are kept for the
+ * {@code initialization} actuator endpoint.
+ * <p>
+ * Users and the lexicon import run in parallel; the suggestion payload is warmed up once the import is done.
+ * Set {@code app.startup.background=false} to run the phases on the calling thread instead.
+ * The phases run on virtual threads when {@code spring.threads.virtual.enabled} is set, like request handling.
+ */
+@Component
+public class StartupInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupInitializer.class);
+
+    static final String USERS = "users";
+    static final String LEXICON = "lexicon-import";
+    static final String SUGGESTIONS = "suggestions-warmup";
+    private static final List<String> PHASES = List.of(USERS, LEXICON, SUGGESTIONS);
+
+    private final UserInitializer userInitializer;
+    private final DataInitializer dataInitializer;
+    private final SuggestionPayloadCache suggestionPayloadCache;
+    private final boolean background;
+    private final boolean virtualThreads;
+
+    private final Map<String, Phase> phases = new ConcurrentHashMap<>();
+    private volatile Instant startedAt;
+    private volatile Long totalMillis;
+
+    @Autowired
+    public StartupInitializer(UserInitializer userInitializer,
+                              DataInitializer dataInitializer,
+                              SuggestionPayloadCache suggestionPayloadCache,
+                              @Value("${app.startup.background:true}") boolean background,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.userInitializer = userInitializer;
+        this.dataInitializer = dataInitializer;
+        this.suggestionPayloadCache = suggestionPayloadCache;
+        this.background = background;
+        this.virtualThreads = virtualThreads;
+        PHASES.forEach(name -> phases.put(name, Phase.pending(name)));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Executor executor = background ? backgroundExecutor() : Runnable::run;
+        startedAt = Instant.now();
+        long start = System.nanoTime();
+
+        CompletableFuture<Void> users = CompletableFuture.runAsync(() -> runPhase(USERS, userInitializer::run), executor);
+        CompletableFuture<Void> lexicon = CompletableFuture
+                .runAsync(() -> runPhase(LEXICON, dataInitializer::run), executor)
+                .thenRunAsync(() -> runPhase(SUGGESTIONS, suggestionPayloadCache::current), executor);
+
+        CompletableFuture.allOf(users, lexicon).whenComplete((ignored, error) -> {
+            totalMillis = elapsedMillis(start);
+            logger.info("Startup initialization finished in {} ms: {}", totalMillis, phases());
+        });
+    }
+
+    /**
+     * Whether every phase has finished, successfully or not.
+     */
+    public boolean isComplete() {
+        return totalMillis != null;
+    }
+
+    /**
+     * Whether any phase has failed so far.
+     */
+    public boolean hasFailed() {
+        return phases.values().stream().anyMatch(phase -> phase.status() == Status.FAILED);
+    }
+
+    /**
+     * The state and timing of each phase, in start order.
+     */
+    public List<Phase> phases() {
+        return PHASES.stream().map(phases::get).toList();
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Wall-clock time from the start of the first phase to the end of the last, or null while running.
+     */
+    public Long totalMillis() {
+        return totalMillis;
+    }
+
+    private Executor backgroundExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("startup-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+
+    /**
+     * A failed phase is recorded and logged here but does not stop the others; the readiness probe then
+     * reports DOWN instead of waiting for a retry that never comes.
+     */
+    private void runPhase(String name, Runnable task) {
+        Instant phaseStartedAt = Instant.now();
+        phases.put(name, new Phase(name, Status.RUNNING, phaseStartedAt, null, null));
+        long start = System.nanoTime();
+        try {
+            task.run();
+            phases.put(name, new Phase(name, Status.COMPLETED, phaseStartedAt, elapsedMillis(start), null));
+        } catch (RuntimeException e) {
+            logger.error("Startup phase {} failed", name, e);
+            phases.put(name, new Phase(name, Status.FAILED, phaseStartedAt, elapsedMillis(start), e.getMessage()));
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    /**
+     * State of one startup phase. {@code millis} is set once the phase has finished.
+     */
+    public record Phase(String name,
+                        Status status,
+                        @JsonProperty("started_at") Instant startedAt,
+                        Long millis,
+                        String error) {
+
+        static Phase pending(String name) {
+            return new Phase(name, Status.PENDING, null, null, null);
+        }
+    }
+}
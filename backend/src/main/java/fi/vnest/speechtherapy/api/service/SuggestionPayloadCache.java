@@ -0,0 +1,111 @@
+package fi.vnest.speechtherapy.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the {@code /api/suggestions} response body already serialized to JSON, and optionally gzipped,
+ * so the endpoint only copies bytes to the response.
+ * The payload is tied to the {@link SuggestionResponse} instance it was built from, which changes
+ * only when the combination graph is recompiled; lexicon writes also drop it right away.
+ */
+@Component
+public class SuggestionPayloadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionPayloadCache.class);
+
+    private final CombinationService combinationService;
+    private final ObjectMapper objectMapper;
+    private final boolean precompress;
+    private volatile Payload payload;
+
+    @Autowired
+    public SuggestionPayloadCache(CombinationService combinationService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.suggestions.precompress:true}") boolean precompress) {
+        this.combinationService = combinationService;
+        this.objectMapper = objectMapper;
+        this.precompress = precompress;
+    }
+
+    /**
+     * Returns the serialized payload for the current suggestions, serializing it first if needed.
+     */
+    public Payload current() {
+        SuggestionResponse suggestions = combinationService.getExerciseSuggestions(null);
+        Payload current = payload;
+        if (current != null && current.source == suggestions) {
+            return current;
+        }
+
+        Payload serialized = serialize(suggestions);
+        payload = serialized;
+        return serialized;
+    }
+
+    /**
+     * Whether payloads carry a gzipped copy of the JSON.
+     */
+    public boolean isPrecompressed() {
+        return precompress;
+    }
+
+    public void evict() {
+        payload = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LexiconChangedEvent.INVALIDATION_ORDER)
+    public void onLexiconChanged(LexiconChangedEvent event) {
+        evict();
+    }
+
+    @EventListener
+    public void onLexiconVersionChanged(LexiconVersionChangedEvent event) {
+        evict();
+    }
+
+    private Payload serialize(SuggestionResponse suggestions) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new ApiResponse<>(true, suggestions));
+            byte[] gzipped = precompress ? gzip(json) : null;
+
+            logger.debug("Serialized suggestions payload: {} bytes JSON, {} bytes gzipped",
+                    json.length, gzipped != null ? gzipped.length : 0);
+            return new Payload(suggestions, json, gzipped);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize suggestions", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * A serialized suggestions response. {@code gzipped} is null when precompression is disabled.
+     */
+    public record Payload(SuggestionResponse source, byte[] json, byte[] gzipped) {
+    }
+}
@@ -6,13 +6,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * Creates or updates the users configured in {@code app.users}.
+ * Run in the background by {@link StartupInitializer}, as hashing the passwords is slow on purpose.
+ */
 @Component
-public class UserInitializer implements ApplicationRunner {
+public class UserInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(UserInitializer.class);
 
@@ -25,8 +27,7 @@ public class UserInitializer implements ApplicationRunner {
     @Value("${app.users}")
     private String usersConfig;
 
-    @Override
-    public void run(ApplicationArguments args) {
+    public void run() {
         if (usersConfig == null || usersConfig.trim().isEmpty()) {
             logger.warn("No users defined.");
             return;
@@ -1,6 +1,8 @@
 package fi.vnest.speechtherapy.api.service;
 
+import fi.vnest.speechtherapy.api.config.CacheConfig;
 import fi.vnest.speechtherapy.api.dto.GroupRequest;
+import fi.vnest.speechtherapy.api.dto.KeysetPage;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordGroup;
 import fi.vnest.speechtherapy.api.model.WordType;
@@ -9,7 +11,15 @@ import fi.vnest.speechtherapy.api.repository.WordRepository;
 import fi.vnest.speechtherapy.api.dto.WordRequest;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Instant;
 import java.util.Collection;
@@ -22,27 +32,57 @@ import java.util.NoSuchElementException;
 @Service
 public class WordService {
 
+    private static final List<String> LOOKUP_CACHES = List.of(CacheConfig.GROUPS, CacheConfig.WORDS, CacheConfig.WORD_BY_ID);
+
     private final WordRepository wordRepository;
     private final GroupRepository groupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     @Autowired
-    public WordService(WordRepository wordRepository, GroupRepository groupRepository) {
+    public WordService(WordRepository wordRepository,
+                       GroupRepository groupRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       CacheManager cacheManager) {
         this.wordRepository = wordRepository;
         this.groupRepository = groupRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
     }
 
     /**
      * Retrieves all words, optionally filtered by type.
+     * Cached per type; groups are loaded eagerly so cached words can be mapped without a session.
      *
      * @param type The type to filter by (optional).
      * @return A list of Word entities.
      */
+    @Cacheable(CacheConfig.WORDS)
     public List<Word> findAll(WordType type) {
         if (type != null) {
-            return wordRepository.findByType(type);
+            return wordRepository.findAllWithGroupByType(type);
         }
 
-        return wordRepository.findAll();
+        return wordRepository.findAllWithGroup();
+    }
+
+    /**
+     * Retrieves one keyset page of words ordered by ID, optionally filtered by type.
+     *
+     * @param type  The type to filter by (optional).
+     * @param after Only words with a greater ID are returned (null starts from the beginning).
+     * @param limit Page size, clamped to {@link KeysetPage#MAX_LIMIT}.
+     */
+    public KeysetPage<Word> findPage(WordType type, Long after, Integer limit) {
+        int pageSize = KeysetPage.normalizeLimit(limit);
+        long cursor = after != null ? after : 0L;
+        Limit lookahead = Limit.of(pageSize + 1);
+
+        List<Word> words = type != null
+                ? wordRepository.findByTypeAndIdGreaterThanOrderByIdAsc(type, cursor, lookahead)
+                : wordRepository.findByIdGreaterThanOrderByIdAsc(cursor, lookahead);
+
+        return KeysetPage.fromLookahead(words, pageSize, Word::getId);
     }
 
     /**
@@ -63,7 +103,9 @@ public class WordService {
             word.setGroup(group);
         }
 
-        return wordRepository.save(word);
+        Word saved = wordRepository.save(word);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+        return saved;
     }
 
     /**
@@ -87,7 +129,9 @@ public class WordService {
             word.setGroup(group);
         }
 
-        return wordRepository.save(word);
+        Word saved = wordRepository.save(word);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+        return saved;
     }
 
     /**
@@ -103,6 +147,7 @@ public class WordService {
         }
 
         wordRepository.deleteById(id);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
     }
 
     /**
@@ -111,14 +156,16 @@ public class WordService {
      * @param id The ID of the word.
      * @throws NoSuchElementException if the word is not found.
      */
+    @Cacheable(CacheConfig.WORD_BY_ID)
     public Word findById(Long id) {
-        return wordRepository.findById(id)
+        return wordRepository.findWithGroupById(id)
                 .orElseThrow(() -> new NoSuchElementException("Word not found with ID: " + id));
     }
 
     /**
      * Get all groups
      */
+    @Cacheable(CacheConfig.GROUPS)
     public List<WordGroup> getAllGroups() {
         return groupRepository.findAll();
     }
@@ -129,7 +176,9 @@ public class WordService {
         group.setName(request.getName());
         group.setDescription(request.getDescription());
 
-        return groupRepository.save(group);
+        WordGroup saved = groupRepository.save(group);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+        return saved;
     }
 
     /**
@@ -143,7 +192,9 @@ public class WordService {
         group.setName(request.getName());
         group.setDescription(request.getDescription());
 
-        return groupRepository.save(group);
+        WordGroup saved = groupRepository.save(group);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+        return saved;
     }
 
     /**
@@ -162,5 +213,34 @@ public class WordService {
         }
 
         groupRepository.delete(group);
+        eventPublisher.publishEvent(new LexiconChangedEvent());
+    }
+
+    /**
+     * Drops the word and group lookups once a lexicon write has committed, before the new version is published.
+     * The caches are invalidated directly: an eviction through the transaction-aware cache would only run after
+     * every ordered listener, leaving a window where the new ETag is served with the old lookups.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LexiconChangedEvent.INVALIDATION_ORDER)
+    public void onLexiconChanged(LexiconChangedEvent event) {
+        invalidateLookups();
+    }
+
+    /**
+     * Another instance changed the lexicon (see LexiconVersionService); drop the lookups instead of waiting for them to expire.
+     */
+    @EventListener
+    public void onLexiconVersionChanged(LexiconVersionChangedEvent event) {
+        invalidateLookups();
+    }
+
+    private void invalidateLookups() {
+        for (String name : LOOKUP_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
     }
 }
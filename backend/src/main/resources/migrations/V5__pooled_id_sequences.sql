@@ -0,0 +1,4 @@
+-- Hibernate allocates word and combination IDs in pooled-lo blocks of 50 (allocationSize = 50).
+-- The sequence increment must match so that each nextval reserves a whole block.
+ALTER SEQUENCE word_id_seq INCREMENT BY 50;
+ALTER SEQUENCE allowed_combination_id_seq INCREMENT BY 50;
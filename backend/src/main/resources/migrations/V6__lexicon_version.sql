@@ -0,0 +1,8 @@
+-- Single-row counter bumped by every lexicon write (words, groups, combinations).
+-- Read endpoints derive their ETag from it.
+CREATE TABLE lexicon_version (
+    id INTEGER PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO lexicon_version (id, version) VALUES (1, 1);
@@ -1,9 +1,13 @@
 // app.js
 const API_BASE = '/api';
 const ADMIN_BASE = '/admin';
+const PAGE_SIZE = 200;
 let currentEditId = null;
 let allGroups = [];
 let allWords = [];
+let wordsCursor = null;
+let allCombinations = [];
+let combinationsCursor = null;
 
 // Initialize on page load
 document.addEventListener('DOMContentLoaded', function() {
@@ -95,18 +99,35 @@ function showAlert(message, type = 'success') {
     setTimeout(() => alert.remove(), 4000);
 }
 
+// Build a keyset page query; append=true continues after the last loaded cursor
+function pageParams(filters, cursor, append) {
+    const params = new URLSearchParams({ limit: PAGE_SIZE });
+    Object.entries(filters).forEach(([key, value]) => {
+        if (value) params.set(key, value);
+    });
+    if (append && cursor) params.set('after', cursor);
+    return params;
+}
+
+function loadMoreButton(cursor, loader) {
+    return cursor
+        ? `<div class="empty-state"><button class="btn btn-secondary" onclick="${loader}(true)">Load more</button></div>`
+        : '';
+}
+
 // Words Management
-async function loadWords() {
+async function loadWords(append = false) {
     const type = document.getElementById('word-filter').value;
-    const url = type ? `${API_BASE}/words?type=${type}` : `${API_BASE}/words`;
+    const url = `${API_BASE}/words?${pageParams({ type }, wordsCursor, append)}`;
 
     try {
         const response = await fetch(url);
         const result = await response.json();
 
         if (result.success && result.data) {
-            allWords = result.data;
-            displayWords(result.data);
+            allWords = append ? allWords.concat(result.data.items) : result.data.items;
+            wordsCursor = result.data.next_cursor;
+            displayWords(allWords);
         }
     } catch (error) {
         showAlert('Failed to load words: ' + error.message, 'error');
@@ -147,6 +168,7 @@ function displayWords(words) {
                 `).join('')}
             </tbody>
         </table>
+        ${loadMoreButton(wordsCursor, 'loadWords')}
     `;
 
     container.innerHTML = table;
@@ -323,16 +345,18 @@ async function loadVerbsForCombos() {
     }
 }
 
-async function loadCombinations() {
+async function loadCombinations(append = false) {
     const verbId = document.getElementById('combo-filter').value;
-    const url = verbId ? `${API_BASE}/combinations?verb_id=${verbId}` : `${API_BASE}/combinations`;
+    const url = `${API_BASE}/combinations?${pageParams({ verb_id: verbId }, combinationsCursor, append)}`;
 
     try {
         const response = await fetch(url);
         const result = await response.json();
 
         if (result.success && result.data) {
-            displayCombinations(result.data);
+            allCombinations = append ? allCombinations.concat(result.data.items) : result.data.items;
+            combinationsCursor = result.data.next_cursor;
+            displayCombinations(allCombinations);
         }
     } catch (error) {
         showAlert('Failed to load combinations: ' + error.message, 'error');
@@ -381,6 +405,7 @@ function displayCombinations(combinations) {
                 `).join('')}
             </tbody>
         </table>
+        ${loadMoreButton(combinationsCursor, 'loadCombinations')}
     `;
 
     container.innerHTML = table;
@@ -447,7 +472,7 @@ async function createBatchCombinations() {
         const result = await response.json();
 
         if (result.success) {
-            showAlert(`Successfully created ${result.data.count} combinations!`);
+            showAlert(`Successfully created ${result.data.created} combinations (${result.data.skipped} skipped)!`);
             loadCombinations();
         } else {
             showAlert('Failed to create batch combinations', 'error');
@@ -0,0 +1,35 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Out of service until the first lexicon snapshot is loaded. Part of the readiness group, so no traffic
+ * is routed to an instance that would make every request wait for the load.
+ */
+@Component("lexicon")
+public class LexiconHealthIndicator implements ReactiveHealthIndicator {
+
+    private final ReactiveCombinationIndex combinationIndex;
+
+    @Autowired
+    public LexiconHealthIndicator(ReactiveCombinationIndex combinationIndex) {
+        this.combinationIndex = combinationIndex;
+    }
+
+    @Override
+    public Mono<Health> health() {
+        ReactiveCombinationIndex.Snapshot snapshot = combinationIndex.loaded();
+        if (snapshot == null) {
+            return Mono.just(Health.outOfService().build());
+        }
+
+        return Mono.just(Health.up()
+                .withDetail("version", snapshot.version())
+                .withDetail("combinations", snapshot.graph().combinationCount())
+                .build());
+    }
+}
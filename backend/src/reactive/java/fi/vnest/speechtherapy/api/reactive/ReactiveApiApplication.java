@@ -0,0 +1,19 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Read-only API for exercise suggestions and sentence validation on a non-blocking server.
+ * Serves the same paths and JSON as the public endpoints of {@code SuggestionController} from an in-memory
+ * {@code CombinationGraph} loaded over R2DBC, so thousands of idle client connections need only a few threads.
+ * Writes, the admin UI and the other endpoints stay on the main application.
+ */
+@SpringBootApplication
+public class ReactiveApiApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveApiApplication.class, args);
+	}
+
+}
@@ -0,0 +1,166 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link CombinationGraph} of the reactive API, read with R2DBC.
+ * The main application bumps {@code lexicon_version} on every lexicon write; this index polls the version and
+ * reloads the graph only when it has changed, so requests never wait on the database once the first load is done.
+ * Reloads may lag a write by up to {@code app.reactive.refresh-interval}.
+ */
+@Component
+public class ReactiveCombinationIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCombinationIndex.class);
+
+    static final String VERSION_QUERY = "SELECT version FROM lexicon_version WHERE id = 1";
+    static final String TUPLES_QUERY = "SELECT c.verb_id, c.subject_id, c.object_id, v.group_id "
+            + "FROM allowed_combination c JOIN word v ON v.id = c.verb_id";
+    static final String WORDS_QUERY = "SELECT id, text FROM word";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+    private final Duration refreshInterval;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // Shared by everyone who arrives before the first snapshot; a failed load is retried by the next caller
+    private final Mono<Snapshot> firstLoad;
+    private volatile Disposable refresher;
+
+    @Autowired
+    public ReactiveCombinationIndex(DatabaseClient databaseClient,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.reactive.refresh-interval:5s}") Duration refreshInterval) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+        this.refreshInterval = refreshInterval;
+        this.firstLoad = Mono.defer(this::refresh).cacheInvalidateIf(loaded -> false);
+    }
+
+    /**
+     * Returns the current snapshot, waiting for the first load if it has not finished yet.
+     */
+    public Mono<Snapshot> current() {
+        Snapshot current = snapshot.get();
+        return current != null ? Mono.just(current) : firstLoad;
+    }
+
+    /**
+     * Returns the loaded snapshot without waiting, or null before the first load.
+     */
+    public Snapshot loaded() {
+        return snapshot.get();
+    }
+
+    /**
+     * Reloads the graph if the stored lexicon version differs from the loaded one.
+     */
+    public Mono<Snapshot> refresh() {
+        return databaseClient.sql(VERSION_QUERY)
+                .map(row -> row.get("version", Long.class))
+                .one()
+                .defaultIfEmpty(0L)
+                .flatMap(version -> {
+                    Snapshot current = snapshot.get();
+                    return current != null && current.version() == version ? Mono.just(current) : load(version);
+                });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        firstLoad.subscribe(loaded -> { }, error -> logger.warn("Initial lexicon load failed", error));
+        refresher = Flux.interval(refreshInterval, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(error -> {
+                    logger.warn("Lexicon refresh failed", error);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = refresher;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Reads the combinations and words after the version, so a write committed in between leaves the
+     * snapshot labelled with an older version and the next refresh loads it again instead of missing it.
+     */
+    private Mono<Snapshot> load(long version) {
+        Mono<List<CombinationTuple>> tuples = databaseClient.sql(TUPLES_QUERY)
+                .map(row -> new CombinationTuple(
+                        row.get("verb_id", Long.class),
+                        row.get("subject_id", Long.class),
+                        row.get("object_id", Long.class),
+                        row.get("group_id", Long.class)))
+                .all()
+                .collectList();
+        Mono<List<WordReference>> words = databaseClient.sql(WORDS_QUERY)
+                .map(row -> WordReference.of(row.get("id", Long.class), row.get("text", String.class)))
+                .all()
+                .collectList();
+
+        return Mono.zip(tuples, words)
+                // Compiling a large lexicon takes a while; keep it off the event loop
+                .publishOn(Schedulers.boundedElastic())
+                .map(loaded -> compile(version, loaded.getT1(), loaded.getT2()))
+                // Loads can overlap; never replace a newer snapshot with an older one
+                .map(compiled -> snapshot.accumulateAndGet(compiled, (current, next) ->
+                        current != null && current.version() > next.version() ? current : next));
+    }
+
+    private Snapshot compile(long version, List<CombinationTuple> tuples, List<WordReference> words) {
+        long start = System.nanoTime();
+        CombinationGraph graph = CombinationGraph.compile(tuples, words);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new ApiResponse<>(true, graph.suggestions()));
+            logger.info("Loaded lexicon version {}: {} verbs and {} combinations in {} ms", version,
+                    graph.verbs().size(), graph.combinationCount(), (System.nanoTime() - start) / 1_000_000);
+            return new Snapshot(version, graph, json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize suggestions", e);
+        }
+    }
+
+    /**
+     * A compiled graph with the {@code /api/suggestions} body already serialized.
+     *
+     * @param version         The lexicon version the graph was loaded at.
+     * @param graph           The compiled combinations.
+     * @param suggestionsJson {@code ApiResponse<SuggestionResponse>} of all suggestions, as JSON.
+     */
+    public record Snapshot(long version, CombinationGraph graph, byte[] suggestionsJson) {
+
+        /**
+         * The same strong ETag as the main application's {@code LexiconVersionService} gives this version.
+         */
+        public String etag() {
+            return "\"" + version + "\"";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The error responses of the main application's {@code GlobalExceptionHandler}, for the WebFlux exceptions.
+ */
+@ControllerAdvice
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handles unreadable request bodies (e.g., malformed JSON). Returns 400 Bad Request.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<String>> handleServerWebInput(ServerWebInputException ex) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(ex);
+        String detail = "Malformed JSON request or invalid enum value provided. Error: " + cause.getMessage();
+        return new ResponseEntity<>(new ApiResponse<>(false, detail), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles validation errors from @Valid. Returns 400 Bad Request with one message per field.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<List<String>>> handleValidationExceptions(WebExchangeBindException ex) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList();
+
+        return new ResponseEntity<>(new ApiResponse<>(false, errors), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles unknown verbs. Returns 404 Not Found.
+     */
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<ApiResponse<String>> handleNotFound(NoSuchElementException ex) {
+        return new ResponseEntity<>(new ApiResponse<>(false, ex.getMessage()), HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,75 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.dto.ValidationBatchRequest;
+import fi.vnest.speechtherapy.api.dto.ValidationRequest;
+import fi.vnest.speechtherapy.api.dto.ValidationResponse;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of the read endpoints of {@code SuggestionController}: same paths, status codes
+ * and JSON, answered from the graph of {@link ReactiveCombinationIndex}.
+ */
+@RestController
+@RequestMapping("/api/suggestions")
+public class ReactiveSuggestionController {
+
+    private final ReactiveCombinationIndex combinationIndex;
+
+    @Autowired
+    public ReactiveSuggestionController(ReactiveCombinationIndex combinationIndex) {
+        this.combinationIndex = combinationIndex;
+    }
+
+    /**
+     * Writes the pre-serialized body. The ETag is the lexicon version, so a matching If-None-Match gets 304.
+     * The body is not precompressed; compress at the proxy if needed.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getSuggestions() {
+        return combinationIndex.current().map(snapshot -> ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.suggestionsJson()));
+    }
+
+    @GetMapping("/{verb_id}")
+    public Mono<ResponseEntity<ApiResponse<SuggestionResponse>>> getSuggestionsByVerb(@PathVariable Long verb_id) {
+        return combinationIndex.current()
+                .map(snapshot -> ResponseEntity.ok(new ApiResponse<>(true, snapshot.graph().suggestions(verb_id))));
+    }
+
+    @PostMapping("/validate")
+    public Mono<ResponseEntity<ApiResponse<ValidationResponse>>> validateCombination(
+            @Valid @RequestBody ValidationRequest request) {
+
+        return combinationIndex.current()
+                .map(snapshot -> ResponseEntity.ok(new ApiResponse<>(true, snapshot.graph().validate(request))));
+    }
+
+    @PostMapping("/validate/batch")
+    public Mono<ResponseEntity<ApiResponse<List<ValidationResponse>>>> validateCombinations(
+            @Valid @RequestBody ValidationBatchRequest request) {
+
+        return combinationIndex.current().map(snapshot -> {
+            CombinationGraph graph = snapshot.graph();
+            List<ValidationResponse> results = new ArrayList<>(request.getCombinations().size());
+            for (ValidationRequest combination : request.getCombinations()) {
+                results.add(graph.validate(combination));
+            }
+            return ResponseEntity.ok(new ApiResponse<>(true, results));
+        });
+    }
+}
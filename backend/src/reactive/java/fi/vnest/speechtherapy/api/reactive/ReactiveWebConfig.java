@@ -0,0 +1,26 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Allows the same frontend origins as the main application. The API is public and read-only,
+ * so there are no credentials to share.
+ */
+@Configuration
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    @Value("${cors.allowed.origins:http://localhost:8081,http://localhost:19002}")
+    private String allowedOrigins;
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/api/**")
+                .allowedOrigins(allowedOrigins.split(","))
+                .allowedMethods("GET", "POST", "OPTIONS")
+                .allowedHeaders("*")
+                .maxAge(3600L);
+    }
+}
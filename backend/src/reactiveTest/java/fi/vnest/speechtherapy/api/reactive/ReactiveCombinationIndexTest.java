@@ -0,0 +1,101 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveCombinationIndexTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DatabaseClient databaseClient;
+    private ReactiveCombinationIndex combinationIndex;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///index-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"));
+        execute("CREATE TABLE word (id BIGINT PRIMARY KEY, text VARCHAR(255) NOT NULL, group_id BIGINT)");
+        execute("CREATE TABLE allowed_combination (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "subject_id BIGINT NOT NULL, verb_id BIGINT NOT NULL, object_id BIGINT NOT NULL)");
+        execute("CREATE TABLE lexicon_version (id INTEGER PRIMARY KEY, version BIGINT NOT NULL)");
+        execute("INSERT INTO lexicon_version (id, version) VALUES (1, 1)");
+        execute("INSERT INTO word (id, text, group_id) VALUES (1, 'koira', NULL), (2, 'syödä', 7), "
+                + "(3, 'luu', NULL), (4, 'kissa', NULL)");
+        execute("INSERT INTO allowed_combination (subject_id, verb_id, object_id) VALUES (1, 2, 3)");
+
+        combinationIndex = new ReactiveCombinationIndex(databaseClient, objectMapper, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void current_ShouldLoadGraphAndSerializedSuggestions() throws Exception {
+        ReactiveCombinationIndex.Snapshot snapshot = combinationIndex.current().block();
+
+        assertNotNull(snapshot);
+        assertEquals(1L, snapshot.version());
+        assertEquals("\"1\"", snapshot.etag());
+        assertTrue(snapshot.graph().contains(1L, 2L, 3L));
+        assertSame(snapshot, combinationIndex.loaded());
+
+        JsonNode json = objectMapper.readTree(snapshot.suggestionsJson());
+        assertTrue(json.get("success").asBoolean());
+        assertEquals("syödä", json.at("/data/verbs/0/text").asText());
+        assertEquals(7L, json.at("/data/verbs/0/group_id").asLong());
+        assertEquals("koira", json.at("/data/subjects/0/text").asText());
+    }
+
+    @Test
+    void loaded_BeforeFirstLoad_ShouldBeNull() {
+        assertNull(combinationIndex.loaded());
+    }
+
+    @Test
+    void refresh_WhenVersionIsUnchanged_ShouldKeepSnapshot() {
+        ReactiveCombinationIndex.Snapshot first = combinationIndex.current().block();
+        execute("INSERT INTO allowed_combination (subject_id, verb_id, object_id) VALUES (4, 2, 3)");
+
+        ReactiveCombinationIndex.Snapshot refreshed = combinationIndex.refresh().block();
+
+        assertSame(first, refreshed);
+        assertFalse(refreshed.graph().contains(4L, 2L, 3L));
+    }
+
+    @Test
+    void refresh_WhenVersionChanged_ShouldReloadGraph() {
+        combinationIndex.current().block();
+        execute("INSERT INTO allowed_combination (subject_id, verb_id, object_id) VALUES (4, 2, 3)");
+        execute("UPDATE lexicon_version SET version = 2 WHERE id = 1");
+
+        ReactiveCombinationIndex.Snapshot refreshed = combinationIndex.refresh().block();
+
+        assertNotNull(refreshed);
+        assertEquals(2L, refreshed.version());
+        assertTrue(refreshed.graph().contains(4L, 2L, 3L));
+        assertSame(refreshed, combinationIndex.current().block());
+    }
+
+    @Test
+    void current_AfterFailedFirstLoad_ShouldRetry() {
+        execute("DROP TABLE lexicon_version");
+        assertThrows(RuntimeException.class, () -> combinationIndex.current().block());
+
+        execute("CREATE TABLE lexicon_version (id INTEGER PRIMARY KEY, version BIGINT NOT NULL)");
+        execute("INSERT INTO lexicon_version (id, version) VALUES (1, 3)");
+
+        ReactiveCombinationIndex.Snapshot snapshot = combinationIndex.current().block();
+        assertNotNull(snapshot);
+        assertEquals(3L, snapshot.version());
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
@@ -0,0 +1,170 @@
+package fi.vnest.speechtherapy.api.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.service.CombinationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = ReactiveSuggestionController.class)
+class ReactiveSuggestionControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReactiveCombinationIndex combinationIndex;
+
+    private ReactiveCombinationIndex.Snapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CombinationGraph graph = CombinationGraph.compile(
+                List.of(new CombinationTuple(2L, 1L, 3L, 7L), new CombinationTuple(2L, 4L, 3L, 7L)),
+                List.of(WordReference.of(1L, "koira"), WordReference.of(2L, "syödä"),
+                        WordReference.of(3L, "luu"), WordReference.of(4L, "kissa")));
+        byte[] json = objectMapper.writeValueAsBytes(new ApiResponse<>(true, graph.suggestions()));
+        snapshot = new ReactiveCombinationIndex.Snapshot(5L, graph, json);
+        when(combinationIndex.current()).thenReturn(Mono.just(snapshot));
+    }
+
+    @Test
+    void getSuggestions_ShouldReturnSerializedPayloadWithEtag() {
+        webTestClient.get().uri("/api/suggestions")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("ETag", "\"5\"")
+                .expectHeader().valueEquals("Cache-Control", "no-cache")
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.verbs[0].text").isEqualTo("syödä")
+                .jsonPath("$.data.verbs[0].group_id").isEqualTo(7)
+                .jsonPath("$.data.verbs[0].compatible_subject_ids.length()").isEqualTo(2)
+                .jsonPath("$.data.verbs[0].compatible_object_ids[0]").isEqualTo(3)
+                .jsonPath("$.data.subjects[1].text").isEqualTo("kissa");
+    }
+
+    @Test
+    void getSuggestions_WithMatchingEtag_ShouldReturnNotModified() {
+        webTestClient.get().uri("/api/suggestions")
+                .header("If-None-Match", "\"5\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void getSuggestionsByVerb_ShouldReturnVerbWithItsWords() {
+        webTestClient.get().uri("/api/suggestions/{verbId}", 2)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.verbs.length()").isEqualTo(1)
+                .jsonPath("$.data.verbs[0].id").isEqualTo(2)
+                .jsonPath("$.data.subjects[0].text").isEqualTo("koira")
+                .jsonPath("$.data.objects[0].text").isEqualTo("luu");
+    }
+
+    @Test
+    void getSuggestionsByVerb_WithUnknownVerb_ShouldReturnNotFound() {
+        webTestClient.get().uri("/api/suggestions/{verbId}", 99)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.data").isEqualTo("No combinations found for verb ID: 99");
+    }
+
+    @Test
+    void validateCombination_ShouldReturnValidationResult() {
+        webTestClient.post().uri("/api/suggestions/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"subject_id\":1,\"verb_id\":2,\"object_id\":3}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.valid").isEqualTo(true)
+                .jsonPath("$.data.sentence").isEqualTo("koira syödä luu")
+                .jsonPath("$.data.message").isEqualTo("Oikein! Hyvä lause.");
+    }
+
+    @Test
+    void validateCombination_WithMissingField_ShouldReturnBadRequest() {
+        webTestClient.post().uri("/api/suggestions/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"verb_id\":2,\"object_id\":3}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.data[0]").isEqualTo("subjectId: Subject ID is required");
+    }
+
+    @Test
+    void validateCombination_WithMalformedJson_ShouldReturnBadRequest() {
+        webTestClient.post().uri("/api/suggestions/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"subject_id\":")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.data").value(containsString("Malformed JSON request"));
+    }
+
+    @Test
+    void validateCombinations_ShouldReturnResultsInRequestOrder() {
+        webTestClient.post().uri("/api/suggestions/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"combinations\":[{\"subject_id\":4,\"verb_id\":2,\"object_id\":3},"
+                        + "{\"subject_id\":3,\"verb_id\":2,\"object_id\":1}]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(2)
+                .jsonPath("$.data[0].valid").isEqualTo(true)
+                .jsonPath("$.data[0].sentence").isEqualTo("kissa syödä luu")
+                .jsonPath("$.data[1].valid").isEqualTo(false);
+    }
+
+    @Test
+    void validateCombinations_WithEmptyList_ShouldReturnBadRequest() {
+        webTestClient.post().uri("/api/suggestions/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"combinations\":[]}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.data[0]").isEqualTo("combinations: At least one combination is required");
+    }
+
+    @Test
+    void validateCombinations_WithNullTriple_ShouldReturnBadRequest() {
+        webTestClient.post().uri("/api/suggestions/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"combinations\":[null]}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.data[0]").isEqualTo("combinations[0]: Combination is required");
+    }
+}
@@ -0,0 +1,65 @@
+package fi.vnest.speechtherapy.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.metrics.scraper-addresses=10.1.0.0/16, 192.168.5.7")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class PrometheusScrapeAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpoint_FromScraperRangeWithoutAuth_ShouldReturnMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("10.1.42.3")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("jvm_memory_used_bytes")));
+    }
+
+    @Test
+    void prometheusEndpoint_FromScraperAddressWithoutAuth_ShouldReturnMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("192.168.5.7")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void prometheusEndpoint_FromLoopbackWithoutAuth_ShouldRedirectToLogin() throws Exception {
+        // A reverse proxy on the same host connects from loopback, so it is not trusted implicitly
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("127.0.0.1")))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+
+    @Test
+    void prometheusEndpoint_FromOutsideScraperRangeWithoutAuth_ShouldRedirectToLogin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("10.2.0.1")))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void prometheusEndpoint_AsAdminFromAnyAddress_ShouldReturnMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("203.0.113.9")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
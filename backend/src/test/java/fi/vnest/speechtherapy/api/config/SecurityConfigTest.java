@@ -104,6 +104,35 @@ class SecurityConfigTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void healthProbes_ShouldBeAccessibleWithoutAuth() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void initializationEndpoint_WithoutAuth_ShouldRedirectToLogin() throws Exception {
+        mockMvc.perform(get("/actuator/initialization"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+
+    @Test
+    void prometheusEndpoint_FromRemoteAddressWithoutAuth_ShouldRedirectToLogin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.5");
+                            return request;
+                        }))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+
     @Test
     void publicApiPost_ShouldRequireAuth() throws Exception {
         mockMvc.perform(post("/api/words"))
@@ -6,6 +6,7 @@ import fi.vnest.speechtherapy.api.dto.CombinationRequest;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.service.CombinationBatchResult;
 import fi.vnest.speechtherapy.api.service.CombinationService;
 import fi.vnest.speechtherapy.api.service.CustomUserDetailsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -124,7 +125,7 @@ class AdminCombinationControllerTest {
     void createCombinationsBatch_ShouldReturnCreatedCombinations() throws Exception {
         List<AllowedCombination> combinations = Arrays.asList(combination);
         when(combinationService.createCombinationsBatch(any(CombinationBatchRequest.class)))
-                .thenReturn(combinations);
+                .thenReturn(new CombinationBatchResult(combinations, 2));
 
         mockMvc.perform(post("/admin/combinations/batch")
                         .with(csrf())
@@ -133,6 +134,7 @@ class AdminCombinationControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.skipped").value(2))
                 .andExpect(jsonPath("$.data.combinations").isArray())
                 .andExpect(jsonPath("$.data.combinations.length()").value(1));
 
@@ -168,14 +170,15 @@ class AdminCombinationControllerTest {
 
     @Test
     @WithMockUser(roles = "ADMIN")
-    void deleteCombination_WhenExists_ShouldReturn204() throws Exception {
-        doNothing().when(combinationService).deleteCombination(1L);
+    void deleteCombination_WhenExists_ShouldReturnDeletedCount() throws Exception {
+        when(combinationService.deleteCombination(1L)).thenReturn(1);
 
         mockMvc.perform(delete("/admin/combinations/1")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.deleted").value(1));
 
         verify(combinationService, times(1)).deleteCombination(1L);
     }
@@ -194,18 +197,45 @@ class AdminCombinationControllerTest {
 
     @Test
     @WithMockUser(roles = "ADMIN")
-    void deleteCombinationsByVerb_ShouldReturn204() throws Exception {
-        doNothing().when(combinationService).deleteCombinationsByVerb(2L);
+    void deleteCombinationsByVerb_ShouldReturnDeletedCount() throws Exception {
+        when(combinationService.deleteCombinationsByVerb(2L)).thenReturn(42);
 
         mockMvc.perform(delete("/admin/combinations/by-verb/2")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.deleted").value(42));
 
         verify(combinationService, times(1)).deleteCombinationsByVerb(2L);
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void deleteCombinations_WithIdList_ShouldReturnDeletedCount() throws Exception {
+        when(combinationService.deleteCombinations(List.of(1L, 2L, 999L))).thenReturn(2);
+
+        mockMvc.perform(post("/admin/combinations/delete")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2,999]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.deleted").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void deleteCombinations_WithEmptyIdList_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/admin/combinations/delete")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(combinationService, never()).deleteCombinations(any());
+    }
+
     @Test
     void createCombination_WithoutAuth_ShouldReturn401() throws Exception {
         mockMvc.perform(post("/admin/combinations")
@@ -0,0 +1,155 @@
+package fi.vnest.speechtherapy.api.controller;
+
+import fi.vnest.speechtherapy.api.dto.LexiconImportProgress;
+import fi.vnest.speechtherapy.api.service.CustomUserDetailsService;
+import fi.vnest.speechtherapy.api.service.LexiconImportReport;
+import fi.vnest.speechtherapy.api.service.LexiconImporter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminLexiconController.class)
+@TestPropertySource(properties = {
+    "app.users=test@example.com:password:Test User:ADMIN",
+    "server.servlet.session.timeout=30m"
+})
+class AdminLexiconControllerTest {
+
+    private static final MockMultipartFile CSV = new MockMultipartFile("file", "lexicon.csv", "text/csv",
+            "SECTION;SUBJECT;VERB;OBJECT\n1;koira;SAADA;luu\n".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LexiconImporter lexiconImporter;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importLexicon_ShouldReturnSummary() throws Exception {
+        when(lexiconImporter.importCsv(any(BufferedReader.class))).thenReturn(report(List.of("Line 3: Empty word found in CSV")));
+
+        mockMvc.perform(multipart("/admin/lexicon/import").file(CSV).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.entries").value(1))
+                .andExpect(jsonPath("$.data.error_count").value(1))
+                .andExpect(jsonPath("$.data.errors[0]").value("Line 3: Empty word found in CSV"))
+                .andExpect(jsonPath("$.data.combinations_created").value(1))
+                .andExpect(jsonPath("$.data.combinations_deleted").value(2))
+                .andExpect(jsonPath("$.data.stage_millis.parse").value(5));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importLexicon_WithManyErrors_ShouldListOnlyTheFirstOnes() throws Exception {
+        List<String> errors = IntStream.range(0, 150).mapToObj(i -> "Line " + i + ": bad").toList();
+        when(lexiconImporter.importCsv(any(BufferedReader.class))).thenReturn(report(errors));
+
+        mockMvc.perform(multipart("/admin/lexicon/import").file(CSV).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.error_count").value(150))
+                .andExpect(jsonPath("$.data.errors.length()").value(100));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importLexicon_WithEmptyFile_ShouldReturn400() throws Exception {
+        MockMultipartFile empty = new MockMultipartFile("file", "lexicon.csv", "text/csv", new byte[0]);
+
+        mockMvc.perform(multipart("/admin/lexicon/import").file(empty).with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(lexiconImporter);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @SuppressWarnings("unchecked")
+    void importLexicon_WithNdjsonAccept_ShouldStreamProgressThenSummary() throws Exception {
+        when(lexiconImporter.importCsv(any(BufferedReader.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<LexiconImportProgress> listener = invocation.getArgument(1);
+            listener.accept(new LexiconImportProgress("parse", 5));
+            listener.accept(new LexiconImportProgress("dedupe", 1));
+            return report(List.of());
+        });
+
+        MvcResult result = mockMvc.perform(multipart("/admin/lexicon/import").file(CSV).with(csrf())
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"stage\":\"parse\",\"millis\":5}", lines[0]);
+        assertTrue(lines[2].contains("\"success\":true"));
+        assertTrue(lines[2].contains("\"combinations_created\":1"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @SuppressWarnings("unchecked")
+    void importLexicon_WhenStreamedImportFails_ShouldReportFailureInLastLine() throws Exception {
+        when(lexiconImporter.importCsv(any(BufferedReader.class), any(Consumer.class)))
+                .thenThrow(new IllegalStateException("database down"));
+
+        MvcResult result = mockMvc.perform(multipart("/admin/lexicon/import").file(CSV).with(csrf())
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("\"success\":false"));
+        assertTrue(body.contains("database down"));
+    }
+
+    @Test
+    void importLexicon_WithoutAuth_ShouldReturn401() throws Exception {
+        mockMvc.perform(multipart("/admin/lexicon/import").file(CSV).with(csrf()))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(lexiconImporter);
+    }
+
+    private LexiconImportReport report(List<String> errors) {
+        Map<String, Long> stageMillis = new LinkedHashMap<>();
+        stageMillis.put("parse", 5L);
+        stageMillis.put("dedupe", 1L);
+        return new LexiconImportReport(1, errors, 0, 0, 1, 2, 0, stageMillis);
+    }
+}
@@ -1,9 +1,13 @@
 package fi.vnest.speechtherapy.api.controller;
 
+import fi.vnest.speechtherapy.api.dto.CombinationResponse;
+import fi.vnest.speechtherapy.api.dto.CombinationRow;
+import fi.vnest.speechtherapy.api.dto.KeysetPage;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordType;
 import fi.vnest.speechtherapy.api.service.CombinationService;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,12 +16,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +46,9 @@ class CombinationControllerTest {
     @MockBean
     private CombinationService combinationService;
 
+    @MockBean
+    private LexiconVersionService lexiconVersionService;
+
     private AllowedCombination combination;
     private Word subjectWord;
     private Word verbWord;
@@ -127,13 +140,14 @@ class CombinationControllerTest {
     }
 
     @Test
-    void deleteCombination_WhenExists_ShouldReturn204() throws Exception {
-        doNothing().when(combinationService).deleteCombination(1L);
+    void deleteCombination_WhenExists_ShouldReturnDeletedCount() throws Exception {
+        when(combinationService.deleteCombination(1L)).thenReturn(1);
 
         mockMvc.perform(delete("/api/combinations/1")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.deleted").value(1));
 
         verify(combinationService, times(1)).deleteCombination(1L);
     }
@@ -149,14 +163,86 @@ class CombinationControllerTest {
     }
 
     @Test
-    void deleteCombinationsByVerb_ShouldReturn204() throws Exception {
-        doNothing().when(combinationService).deleteCombinationsByVerb(2L);
+    void deleteCombinationsByVerb_ShouldReturnDeletedCount() throws Exception {
+        when(combinationService.deleteCombinationsByVerb(2L)).thenReturn(42);
 
         mockMvc.perform(delete("/api/combinations/by-verb/2")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.deleted").value(42));
 
         verify(combinationService, times(1)).deleteCombinationsByVerb(2L);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllCombinations_WithNdjsonAccept_ShouldStreamOneCombinationPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CombinationResponse> consumer = invocation.getArgument(1);
+            consumer.accept(CombinationResponse.fromEntity(combination));
+            consumer.accept(CombinationResponse.fromEntity(combination));
+            return null;
+        }).when(combinationService).exportCombinations(eq(2L), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/combinations")
+                        .param("verb_id", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"sentence\":\"lapsi juosta pallo\"")));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        verify(combinationService, never()).findAll(any());
+    }
+
+    @Test
+    void getAllCombinations_WithLimitAndVerbFilter_ShouldReturnKeysetPage() throws Exception {
+        CombinationRow row = new CombinationRow(5L, 1L, "lapsi", 2L, "juosta", 3L, "pallo");
+        when(combinationService.findPage(2L, 4L, 1))
+                .thenReturn(new KeysetPage<>(List.of(row), 5L));
+
+        mockMvc.perform(get("/api/combinations")
+                        .param("verb_id", "2")
+                        .param("after", "4")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.items[0].id").value(5))
+                .andExpect(jsonPath("$.data.items[0].sentence").value("lapsi juosta pallo"))
+                .andExpect(jsonPath("$.data.next_cursor").value(5));
+
+        verify(combinationService, never()).findAll(any());
+    }
+
+    @Test
+    void getAllCombinations_WithMatchingIfNoneMatch_ShouldReturn304WithoutQuerying() throws Exception {
+        when(lexiconVersionService.etag()).thenReturn("\"12\"");
+
+        mockMvc.perform(get("/api/combinations")
+                        .header("If-None-Match", "\"12\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(combinationService, never()).findAll(any());
+    }
+
+    @Test
+    void getAllCombinations_WithNdjsonAccept_ShouldNotMatchJsonETag() throws Exception {
+        when(lexiconVersionService.etag()).thenReturn("\"12\"");
+        when(lexiconVersionService.etag("ndjson")).thenReturn("\"12-ndjson\"");
+
+        mockMvc.perform(get("/api/combinations")
+                        .header("If-None-Match", "\"12\"")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("ETag", "\"12-ndjson\""))
+                .andExpect(header().string("Vary", containsString("Accept")));
+    }
 }
@@ -0,0 +1,27 @@
+package fi.vnest.speechtherapy.api.controller;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when it executes more JDBC statements than {@link #value()}, counted on the test thread
+ * by {@code QueryCounter}. MockMvc requests run on that thread, so their statements are included;
+ * {@code @BeforeEach} methods are not.
+ * On a class, sets the budget of every test that does not declare its own.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * Maximum number of statements; a JDBC batch counts as one.
+     */
+    int value();
+}
@@ -0,0 +1,44 @@
+package fi.vnest.speechtherapy.api.controller;
+
+import fi.vnest.speechtherapy.api.config.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Enforces {@link QueryBudget}. A test that already failed is left alone so its own failure is reported.
+ */
+class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.snapshot());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Snapshot start = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), QueryCounter.Snapshot.class);
+        if (start == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElse(null);
+        if (budget == null) {
+            return;
+        }
+
+        QueryCounter.Snapshot used = QueryCounter.snapshot().since(start);
+        if (used.statements() > budget.value()) {
+            throw new AssertionFailedError(String.format(
+                    "%s executed %d JDBC statements, over its budget of %d (N+1 query?)",
+                    context.getDisplayName(), used.statements(), budget.value()));
+        }
+    }
+}
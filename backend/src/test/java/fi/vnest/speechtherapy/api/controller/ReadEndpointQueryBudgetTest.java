@@ -0,0 +1,171 @@
+package fi.vnest.speechtherapy.api.controller;
+
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordGroup;
+import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.GroupRepository;
+import fi.vnest.speechtherapy.api.repository.WordRepository;
+import fi.vnest.speechtherapy.api.service.CombinationIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Query budgets of the public read endpoints against the real persistence layer.
+ * Every test starts with cold caches and an empty persistence context, and the lexicon has several verbs
+ * with a group, so loading groups or words one by one goes over the budget.
+ * A budget may include one extra statement for reading the lexicon version behind the ETag.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ReadEndpointQueryBudgetTest {
+
+    private static final int VERBS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private AllowedCombinationRepository combinationRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CombinationIndex combinationIndex;
+
+    private Word subject;
+    private Word verb;
+    private Word object;
+    private AllowedCombination combination;
+
+    @BeforeEach
+    void setUp() {
+        WordGroup group = groupRepository.save(new WordGroup("budget", "Query budget test"));
+        subject = wordRepository.save(new Word("budjettilapsi", WordType.SUBJECT));
+        object = wordRepository.save(new Word("budjettipallo", WordType.OBJECT));
+        for (int i = 0; i < VERBS; i++) {
+            verb = new Word("budjettiverbi" + i, WordType.VERB);
+            verb.setGroup(group);
+            verb = wordRepository.save(verb);
+            combination = combinationRepository.save(new AllowedCombination(subject, verb, object));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+        combinationIndex.invalidate();
+    }
+
+    @Test
+    @QueryBudget(2)
+    void getAllWords_ShouldLoadGroupsInTheSameQuery() throws Exception {
+        mockMvc.perform(get("/api/words"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void getAllWords_ByType_ShouldLoadGroupsInTheSameQuery() throws Exception {
+        mockMvc.perform(get("/api/words").param("type", "VERB"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void getWord_ShouldLoadGroupInTheSameQuery() throws Exception {
+        mockMvc.perform(get("/api/words/{id}", verb.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.groupName").value("budget"))
+                .andExpect(header().string("Server-Timing", containsString("desc=\"statements: 1\"")));
+    }
+
+    @Test
+    @QueryBudget(2)
+    void getAllCombinations_ShouldLoadWordsInTheSameQuery() throws Exception {
+        mockMvc.perform(get("/api/combinations"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void getAllCombinations_ByVerb_ShouldLoadWordsInTheSameQuery() throws Exception {
+        mockMvc.perform(get("/api/combinations").param("verb_id", verb.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void getCombination_ShouldLoadWordsInTheSameQuery() throws Exception {
+        mockMvc.perform(get("/api/combinations/{id}", combination.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void getSuggestions_WhenCold_ShouldCompileGraphFromTwoQueries() throws Exception {
+        mockMvc.perform(get("/api/suggestions"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void getSuggestionsByVerb_WhenCold_ShouldCompileGraphFromTwoQueries() throws Exception {
+        mockMvc.perform(get("/api/suggestions/{verbId}", verb.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void getSuggestionsByVerb_WhenWarm_ShouldNotQuery() throws Exception {
+        mockMvc.perform(get("/api/suggestions/{verbId}", verb.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/suggestions/{verbId}", verb.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", containsString("desc=\"statements: 0\"")));
+    }
+
+    @Test
+    @QueryBudget(2)
+    void validateCombination_WhenCold_ShouldCompileGraphFromTwoQueries() throws Exception {
+        String body = String.format("{\"subject_id\":%d,\"verb_id\":%d,\"object_id\":%d}",
+                subject.getId(), verb.getId(), object.getId());
+
+        mockMvc.perform(post("/api/suggestions/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.valid").value(true));
+    }
+}
@@ -1,23 +1,37 @@
 package fi.vnest.speechtherapy.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.dto.ApiResponse;
 import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
 import fi.vnest.speechtherapy.api.dto.ValidationRequest;
 import fi.vnest.speechtherapy.api.dto.ValidationResponse;
 import fi.vnest.speechtherapy.api.service.CombinationService;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
+import fi.vnest.speechtherapy.api.service.SuggestionPayloadCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -25,6 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = SuggestionController.class,
         excludeAutoConfiguration = org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class)
+@Import(SuggestionPayloadCache.class)
 @TestPropertySource(properties = {
     "app.users=test@example.com:password:Test User:ADMIN",
     "server.servlet.session.timeout=30m"
@@ -40,6 +55,9 @@ class SuggestionControllerTest {
     @MockBean
     private CombinationService combinationService;
 
+    @MockBean
+    private LexiconVersionService lexiconVersionService;
+
     private SuggestionResponse suggestionResponse;
     private ValidationRequest validationRequest;
     private ValidationResponse validationResponse;
@@ -68,9 +86,94 @@ class SuggestionControllerTest {
                 .andExpect(jsonPath("$.data").exists());
     }
 
+    @Test
+    void getSuggestions_ShouldSendLexiconVersionAsETag() throws Exception {
+        when(lexiconVersionService.etag()).thenReturn("\"7\"");
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestionResponse);
+
+        mockMvc.perform(get("/api/suggestions"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    void getSuggestions_WithMatchingIfNoneMatch_ShouldReturn304WithoutQuerying() throws Exception {
+        when(lexiconVersionService.etag()).thenReturn("\"7\"");
+
+        mockMvc.perform(get("/api/suggestions")
+                        .header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(content().string(""));
+
+        verify(combinationService, never()).getExerciseSuggestions(any());
+    }
+
+    @Test
+    void getSuggestions_WithStaleIfNoneMatch_ShouldReturnSuggestions() throws Exception {
+        when(lexiconVersionService.etag()).thenReturn("\"8\"");
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestionResponse);
+
+        mockMvc.perform(get("/api/suggestions")
+                        .header("If-None-Match", "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""))
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    void getSuggestions_ShouldSerializeOnceForRepeatedRequests() throws Exception {
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestionResponse);
+
+        String first = mockMvc.perform(get("/api/suggestions"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/suggestions"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(first, second);
+        assertEquals(objectMapper.writeValueAsString(new ApiResponse<>(true, suggestionResponse)), first);
+        verify(combinationService, times(2)).getExerciseSuggestions(null);
+    }
+
+    @Test
+    void getSuggestions_WithAcceptEncodingGzip_ShouldReturnPrecompressedBody() throws Exception {
+        when(lexiconVersionService.etag("gzip")).thenReturn("\"7-gzip\"");
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestionResponse);
+
+        MvcResult result = mockMvc.perform(get("/api/suggestions")
+                        .header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"7-gzip\""))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(objectMapper.writeValueAsString(new ApiResponse<>(true, suggestionResponse)), json);
+        }
+    }
+
+    @Test
+    void getSuggestions_WithGzipRefused_ShouldReturnPlainJson() throws Exception {
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestionResponse);
+
+        mockMvc.perform(get("/api/suggestions")
+                        .header("Accept-Encoding", "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
     @Test
     void getSuggestions_WithLimit_ShouldReturnLimitedSuggestions() throws Exception {
-        when(combinationService.getExerciseSuggestions(10)).thenReturn(suggestionResponse);
+        // The limit is not applied yet, so the shared payload is served
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestionResponse);
 
         mockMvc.perform(get("/api/suggestions")
                         .param("limit", "10")
@@ -151,4 +254,53 @@ class SuggestionControllerTest {
                         .content(invalidJson))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void validateCombinations_ShouldReturnResultsInRequestOrder() throws Exception {
+        List<ValidationRequest> requests = List.of(validationRequest, new ValidationRequest(3L, 2L, 1L));
+        when(combinationService.validateCombinations(requests)).thenReturn(List.of(
+                validationResponse,
+                new ValidationResponse(false, "other sentence", "Invalid combination")
+        ));
+
+        mockMvc.perform(post("/api/suggestions/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"combinations\": " + objectMapper.writeValueAsString(requests) + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].valid").value(true))
+                .andExpect(jsonPath("$.data[1].valid").value(false))
+                .andExpect(jsonPath("$.data[1].sentence").value("other sentence"));
+    }
+
+    @Test
+    void validateCombinations_WithEmptyList_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/suggestions/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"combinations\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(combinationService, never()).validateCombinations(any());
+    }
+
+    @Test
+    void validateCombinations_WithIncompleteTriple_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/suggestions/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"combinations\": [{\"subject_id\": 1, \"verb_id\": 2, \"object_id\": null}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data[0]").value(org.hamcrest.Matchers.startsWith("combinations[0].objectId")));
+    }
+
+    @Test
+    void validateCombinations_WithNullTriple_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/suggestions/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"combinations\": [null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data[0]").value("combinations[0]: Combination is required"));
+
+        verify(combinationService, never()).validateCombinations(any());
+    }
 }
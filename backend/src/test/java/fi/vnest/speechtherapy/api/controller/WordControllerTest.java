@@ -1,7 +1,9 @@
 package fi.vnest.speechtherapy.api.controller;
 
+import fi.vnest.speechtherapy.api.dto.KeysetPage;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
 import fi.vnest.speechtherapy.api.service.WordService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,8 @@ import java.util.NoSuchElementException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +40,9 @@ class WordControllerTest {
     @MockBean
     private WordService wordService;
 
+    @MockBean
+    private LexiconVersionService lexiconVersionService;
+
     private Word subjectWord;
     private Word verbWord;
 
@@ -67,6 +74,52 @@ class WordControllerTest {
                 .andExpect(jsonPath("$.data[1].text").value("juosta"));
     }
 
+    @Test
+    void getAllWords_WithMatchingIfNoneMatch_ShouldReturn304WithoutQuerying() throws Exception {
+        when(lexiconVersionService.etag()).thenReturn("\"3\"");
+
+        mockMvc.perform(get("/api/words")
+                        .param("type", "VERB")
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(wordService, never()).findAll(any());
+        verify(wordService, never()).findPage(any(), any(), any());
+    }
+
+    @Test
+    void getAllWords_WithLimit_ShouldReturnKeysetPage() throws Exception {
+        when(wordService.findPage(WordType.VERB, 1L, 1))
+                .thenReturn(new KeysetPage<>(List.of(verbWord), 2L));
+
+        mockMvc.perform(get("/api/words")
+                        .param("type", "VERB")
+                        .param("after", "1")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].text").value("juosta"))
+                .andExpect(jsonPath("$.data.next_cursor").value(2));
+
+        verify(wordService, never()).findAll(any());
+    }
+
+    @Test
+    void getAllWords_OnLastPage_ShouldReturnNullCursor() throws Exception {
+        when(wordService.findPage(null, null, 50))
+                .thenReturn(new KeysetPage<>(List.of(subjectWord), null));
+
+        mockMvc.perform(get("/api/words")
+                        .param("limit", "50")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.next_cursor").isEmpty());
+    }
+
     @Test
     void getAllWords_WithTypeFilter_ShouldReturnFilteredWords() throws Exception {
         List<Word> words = Arrays.asList(subjectWord);
@@ -0,0 +1,102 @@
+package fi.vnest.speechtherapy.api.controller;
+
+import fi.vnest.speechtherapy.api.dto.WordRequest;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.service.LexiconChangedEvent;
+import fi.vnest.speechtherapy.api.service.LexiconVersionService;
+import fi.vnest.speechtherapy.api.service.WordService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A client that reads {@code /api/words} right after a write commits must not get the new ETag with the old list,
+ * or it would keep getting 304 for stale data until the next write.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(WordListEtagConsistencyTest.ReadAfterVersionPublished.class)
+class WordListEtagConsistencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private LexiconVersionService lexiconVersionService;
+
+    @Autowired
+    private ReadAfterVersionPublished reader;
+
+    @Test
+    void getAllWords_RightAfterNewVersionIsPublished_ShouldServeTheNewWord() throws Exception {
+        // Warm the words cache with the list before the write
+        mockMvc.perform(get("/api/words")).andExpect(status().isOk());
+
+        WordRequest request = new WordRequest();
+        request.setText("etagsana");
+        request.setType(WordType.SUBJECT);
+
+        reader.armed = true;
+        Word created = wordService.createWord(request);
+        try {
+            MvcResult result = reader.result;
+            assertNotNull(result, "No read ran after the version was published");
+            assertEquals(lexiconVersionService.etag(), result.getResponse().getHeader("ETag"));
+            assertTrue(result.getResponse().getContentAsString(StandardCharsets.UTF_8).contains("etagsana"),
+                    "The new ETag was served with the cached list from before the write");
+        } finally {
+            reader.armed = false;
+            wordService.deleteWord(created.getId());
+        }
+    }
+
+    /**
+     * Reads the word list from another thread as soon as LexiconVersionService has published the new version.
+     */
+    @TestComponent
+    static class ReadAfterVersionPublished {
+
+        private final ObjectProvider<MockMvc> mockMvc;
+        volatile boolean armed;
+        volatile MvcResult result;
+
+        ReadAfterVersionPublished(ObjectProvider<MockMvc> mockMvc) {
+            this.mockMvc = mockMvc;
+        }
+
+        @TransactionalEventListener(fallbackExecution = true)
+        @Order(LexiconChangedEvent.VERSION_ORDER + 1)
+        public void onLexiconChanged(LexiconChangedEvent event) {
+            if (!armed) {
+                return;
+            }
+            armed = false;
+            result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return mockMvc.getObject().perform(get("/api/words")).andReturn();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).join();
+        }
+    }
+}
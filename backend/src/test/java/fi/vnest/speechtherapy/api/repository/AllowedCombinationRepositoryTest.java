@@ -0,0 +1,192 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import fi.vnest.speechtherapy.api.dto.CombinationResponse;
+import fi.vnest.speechtherapy.api.dto.CombinationRow;
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordGroup;
+import fi.vnest.speechtherapy.api.model.WordType;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-count regression tests for the combination read path.
+ * Mapping results to CombinationResponse must not trigger lazy loading.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AllowedCombinationRepositoryTest {
+
+    private static final int COMBINATION_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AllowedCombinationRepository combinationRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    private Statistics statistics;
+    private Word verb;
+    private Long groupId;
+    private Long firstCombinationId;
+
+    @BeforeEach
+    void setUp() {
+        WordGroup group = entityManager.persist(new WordGroup("liikenne", "Section liikenne"));
+
+        verb = new Word("ajaa", WordType.VERB);
+        verb.setGroup(group);
+        entityManager.persist(verb);
+        groupId = group.getId();
+
+        Word otherVerb = entityManager.persist(new Word("pestä", WordType.VERB));
+
+        for (int i = 0; i < COMBINATION_COUNT; i++) {
+            Word subject = entityManager.persist(new Word("subject" + i, WordType.SUBJECT));
+            Word object = entityManager.persist(new Word("object" + i, WordType.OBJECT));
+            AllowedCombination combination = entityManager.persist(new AllowedCombination(subject, verb, object));
+            entityManager.persist(new AllowedCombination(subject, otherVerb, object));
+
+            if (firstCombinationId == null) {
+                firstCombinationId = combination.getId();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void findAllWithWords_MapsAllResponsesWithSingleStatement() {
+        List<CombinationResponse> responses = combinationRepository.findAllWithWords().stream()
+                .map(CombinationResponse::fromEntity)
+                .toList();
+
+        assertEquals(COMBINATION_COUNT * 2, responses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllWithWordsByVerbId_MapsResponsesWithSingleStatement() {
+        List<CombinationResponse> responses = combinationRepository.findAllWithWordsByVerbId(verb.getId()).stream()
+                .map(CombinationResponse::fromEntity)
+                .toList();
+
+        assertEquals(COMBINATION_COUNT, responses.size());
+        assertTrue(responses.stream().allMatch(r -> r.verb().getText().equals("ajaa")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithWordsById_MapsResponseWithSingleStatement() {
+        CombinationResponse response = combinationRepository.findWithWordsById(firstCombinationId)
+                .map(CombinationResponse::fromEntity)
+                .orElseThrow();
+
+        assertEquals("subject0 ajaa object0", response.sentence());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findKeysByVerbId_DoesNotLoadEntities() {
+        assertEquals(COMBINATION_COUNT, combinationRepository.findKeysByVerbId(verb.getId()).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void streamRowsByVerbId_ReturnsFlatRowsWithoutManagedEntities() {
+        List<CombinationResponse> responses;
+        try (Stream<CombinationRow> rows = combinationRepository.streamRowsByVerbId(verb.getId())) {
+            responses = rows.map(CombinationRow::toResponse).toList();
+        }
+
+        assertEquals(COMBINATION_COUNT, responses.size());
+        assertEquals("subject0 ajaa object0", responses.get(0).sentence());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAllRows_OrdersRowsById() {
+        List<Long> ids;
+        try (Stream<CombinationRow> rows = combinationRepository.streamAllRows()) {
+            ids = rows.map(CombinationRow::id).toList();
+        }
+
+        assertEquals(COMBINATION_COUNT * 2, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void findRowsByVerbIdAfter_SeeksPastCursor() {
+        List<CombinationRow> firstPage = combinationRepository.findRowsByVerbIdAfter(verb.getId(), 0L, Limit.of(5));
+        Long cursor = firstPage.get(firstPage.size() - 1).id();
+        List<CombinationRow> secondPage = combinationRepository.findRowsByVerbIdAfter(verb.getId(), cursor, Limit.of(5));
+
+        assertEquals(5, firstPage.size());
+        assertEquals(5, secondPage.size());
+        assertTrue(secondPage.stream().allMatch(row -> row.id() > cursor && row.verbId().equals(verb.getId())));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllTuples_ReturnsIdsAndVerbGroupWithoutManagedEntities() {
+        List<CombinationTuple> tuples = combinationRepository.findAllTuples();
+        List<WordReference> words = wordRepository.findAllReferences();
+
+        assertEquals(COMBINATION_COUNT * 2, tuples.size());
+        assertEquals(COMBINATION_COUNT * 2 + 2, words.size());
+        assertTrue(tuples.stream()
+                .filter(tuple -> tuple.verbId().equals(verb.getId()))
+                .allMatch(tuple -> groupId.equals(tuple.verbGroupId())));
+        assertTrue(tuples.stream()
+                .filter(tuple -> !tuple.verbId().equals(verb.getId()))
+                .allMatch(tuple -> tuple.verbGroupId() == null));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void deleteAllByVerbId_DeletesWithSingleStatementAndReturnsCount() {
+        int deleted = combinationRepository.deleteAllByVerbId(verb.getId());
+
+        assertEquals(COMBINATION_COUNT, deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(COMBINATION_COUNT, combinationRepository.count());
+    }
+
+    @Test
+    void deleteAllByIdIn_CountsOnlyExistingRows() {
+        int deleted = combinationRepository.deleteAllByIdIn(List.of(firstCombinationId, -1L));
+
+        assertEquals(1, deleted);
+        assertEquals(0, combinationRepository.deleteSingleById(firstCombinationId));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,98 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.CombinationKey;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the plain JDBC statements against H2 in PostgreSQL mode, so SQL that only PostgreSQL accepts fails here.
+ */
+@DataJpaTest
+@Import(CombinationBatchRepository.class)
+class CombinationBatchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CombinationBatchRepository combinationBatchRepository;
+
+    private Word subject;
+    private Word otherSubject;
+    private Word verb;
+    private Word object;
+
+    @BeforeEach
+    void setUp() {
+        subject = entityManager.persist(new Word("koira", WordType.SUBJECT));
+        otherSubject = entityManager.persist(new Word("kissa", WordType.SUBJECT));
+        verb = entityManager.persist(new Word("syödä", WordType.VERB));
+        object = entityManager.persistAndFlush(new Word("luu", WordType.OBJECT));
+    }
+
+    @Test
+    void insertIgnoringDuplicates_InsertsNewCombinations() {
+        CombinationKey first = key(subject);
+        CombinationKey second = key(otherSubject);
+
+        int[] inserted = combinationBatchRepository.insertIgnoringDuplicates(List.of(first, second));
+
+        assertArrayEquals(new int[]{1, 1}, inserted);
+        Map<CombinationKey, Long> ids = combinationBatchRepository.findAllIds();
+        assertEquals(Set.of(first, second), ids.keySet());
+        assertEquals(2, ids.values().stream().distinct().count());
+    }
+
+    @Test
+    void insertIgnoringDuplicates_SkipsExistingTriple() {
+        AllowedCombination existing = entityManager.persistAndFlush(new AllowedCombination(subject, verb, object));
+
+        int[] inserted = combinationBatchRepository.insertIgnoringDuplicates(List.of(key(subject), key(otherSubject)));
+
+        assertArrayEquals(new int[]{0, 1}, inserted);
+        Map<CombinationKey, Long> ids = combinationBatchRepository.findAllIds();
+        assertEquals(2, ids.size());
+        assertEquals(existing.getId(), ids.get(key(subject)));
+        assertTrue(ids.containsKey(key(otherSubject)));
+    }
+
+    @Test
+    void insertIgnoringDuplicates_SkipsTripleRepeatedInTheSameBatch() {
+        int[] inserted = combinationBatchRepository.insertIgnoringDuplicates(List.of(key(subject), key(subject)));
+
+        assertArrayEquals(new int[]{1, 0}, inserted);
+        assertEquals(Set.of(key(subject)), combinationBatchRepository.findAllIds().keySet());
+    }
+
+    @Test
+    void insertIgnoringDuplicates_WithoutKeys_ReturnsEmptyCounts() {
+        assertArrayEquals(new int[0], combinationBatchRepository.insertIgnoringDuplicates(List.of()));
+    }
+
+    @Test
+    void deleteByIds_RemovesOnlyGivenCombinations() {
+        combinationBatchRepository.insertIgnoringDuplicates(List.of(key(subject), key(otherSubject)));
+        Map<CombinationKey, Long> ids = combinationBatchRepository.findAllIds();
+
+        combinationBatchRepository.deleteByIds(List.of(ids.get(key(subject))));
+
+        assertEquals(Set.of(key(otherSubject)), combinationBatchRepository.findAllIds().keySet());
+    }
+
+    private CombinationKey key(Word subjectWord) {
+        return new CombinationKey(subjectWord.getId(), verb.getId(), object.getId());
+    }
+}
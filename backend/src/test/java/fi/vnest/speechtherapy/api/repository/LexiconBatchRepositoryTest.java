@@ -0,0 +1,73 @@
+package fi.vnest.speechtherapy.api.repository;
+
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordGroup;
+import fi.vnest.speechtherapy.api.model.WordKey;
+import fi.vnest.speechtherapy.api.model.WordType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(LexiconBatchRepository.class)
+class LexiconBatchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LexiconBatchRepository lexiconBatchRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    void insertGroups_AddsSectionDescriptionAndIsReadBackByName() {
+        lexiconBatchRepository.insertGroups(List.of("1", "2"));
+
+        Map<String, Long> ids = lexiconBatchRepository.findGroupIds();
+
+        assertEquals(Set.of("1", "2"), ids.keySet());
+        WordGroup group = entityManager.find(WordGroup.class, ids.get("2"));
+        assertEquals("Section 2", group.getDescription());
+    }
+
+    @Test
+    void insertWords_AssignsIdsFromWordSequenceAndKeepsVerbGroups() {
+        WordGroup group = entityManager.persistAndFlush(new WordGroup("1", "Section 1"));
+        Set<WordKey> keys = new LinkedHashSet<>(List.of(
+                WordKey.of("koira", WordType.SUBJECT, null),
+                WordKey.of("SAADA", WordType.VERB, group.getId()),
+                WordKey.of("luu", WordType.OBJECT, null)
+        ));
+
+        Map<WordKey, Long> inserted = lexiconBatchRepository.insertWords(keys);
+
+        assertEquals(keys, inserted.keySet());
+        assertEquals(3, inserted.values().stream().distinct().count());
+        assertEquals(inserted, lexiconBatchRepository.findWordIds());
+
+        Word verb = wordRepository.findWithGroupById(inserted.get(WordKey.of("SAADA", WordType.VERB, group.getId())))
+                .orElseThrow();
+        assertEquals(group.getId(), verb.getGroup().getId());
+    }
+
+    @Test
+    void findWordIds_KeepsOldestWordWhenKeyRepeats() {
+        Word first = entityManager.persist(new Word("koira", WordType.SUBJECT));
+        entityManager.persistAndFlush(new Word("koira", WordType.SUBJECT));
+
+        Map<WordKey, Long> ids = lexiconBatchRepository.findWordIds();
+
+        assertEquals(first.getId(), ids.get(new WordKey("koira", WordType.SUBJECT, null)));
+    }
+}
@@ -0,0 +1,161 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.dto.ValidationRequest;
+import fi.vnest.speechtherapy.api.dto.ValidationResponse;
+import fi.vnest.speechtherapy.api.dto.VerbSuggestion;
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombinationGraphTest {
+
+    private static final Long GROUP_ID = 7L;
+
+    private final List<WordReference> words = List.of(
+            WordReference.of(1L, "cat"),
+            WordReference.of(2L, "eats"),
+            WordReference.of(3L, "fish"),
+            WordReference.of(4L, "dog"),
+            WordReference.of(5L, "bone"),
+            WordReference.of(6L, "sees"),
+            WordReference.of(10L, "runs")
+    );
+
+    @Test
+    void compile_WithSingleCombination_ReturnsCorrectStructure() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple(2L, 1L, 3L, GROUP_ID)), words);
+
+        SuggestionResponse result = graph.suggestions();
+
+        assertEquals(1, result.verbs().size());
+        assertEquals(1, result.subjects().size());
+        assertEquals(1, result.objects().size());
+
+        VerbSuggestion verbSuggestion = result.verbs().get(0);
+        assertEquals(2L, verbSuggestion.id());
+        assertEquals("eats", verbSuggestion.text());
+        assertEquals(GROUP_ID, verbSuggestion.groupId());
+        assertEquals(List.of(1L), verbSuggestion.compatibleSubjectIds());
+        assertEquals(List.of(3L), verbSuggestion.compatibleObjectIds());
+        assertEquals("cat", result.subjects().get(0).getText());
+        assertEquals("fish", result.objects().get(0).getText());
+    }
+
+    @Test
+    void compile_WithMultipleCombinations_GroupsByVerbAndDeduplicates() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(
+                tuple(2L, 4L, 3L, GROUP_ID),
+                tuple(2L, 1L, 3L, GROUP_ID),
+                tuple(2L, 1L, 5L, GROUP_ID)
+        ), words);
+
+        SuggestionResponse result = graph.suggestions();
+
+        assertEquals(1, result.verbs().size());
+        assertEquals(2, result.subjects().size());
+        assertEquals(2, result.objects().size());
+
+        VerbSuggestion verbSuggestion = result.verbs().get(0);
+        assertEquals(List.of(1L, 4L), verbSuggestion.compatibleSubjectIds());
+        assertEquals(List.of(3L, 5L), verbSuggestion.compatibleObjectIds());
+    }
+
+    @Test
+    void compile_OrdersVerbsById() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(
+                tuple(10L, 1L, 3L, GROUP_ID),
+                tuple(2L, 1L, 3L, GROUP_ID),
+                tuple(6L, 1L, 3L, null)
+        ), words);
+
+        List<Long> verbIds = graph.suggestions().verbs().stream().map(VerbSuggestion::id).toList();
+        assertEquals(List.of(2L, 6L, 10L), verbIds);
+        assertNull(graph.verbs().get(6L).groupId());
+        assertEquals("runs", graph.verbs().get(10L).text());
+    }
+
+    @Test
+    void compile_WithNoCombinations_ReturnsEmptySuggestions() {
+        SuggestionResponse result = CombinationGraph.compile(List.of(), List.of()).suggestions();
+
+        assertTrue(result.verbs().isEmpty());
+        assertTrue(result.subjects().isEmpty());
+        assertTrue(result.objects().isEmpty());
+    }
+
+    @Test
+    void compile_WithWordMissingFromReferences_KeepsCombinationWithoutText() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple(2L, 99L, 3L, GROUP_ID)), words);
+
+        assertTrue(graph.contains(99L, 2L, 3L));
+        assertNull(graph.subjects().get(99L).getText());
+        assertEquals("?", graph.wordText(99L, "?"));
+    }
+
+    @Test
+    void contains_MatchesOnlyAllowedTriples() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple(2L, 1L, 3L, GROUP_ID)), words);
+
+        assertTrue(graph.contains(1L, 2L, 3L));
+        assertFalse(graph.contains(4L, 2L, 3L));
+        assertFalse(graph.contains(3L, 2L, 1L));
+        assertFalse(graph.contains(999L, 2L, 3L));
+        assertEquals(1, graph.combinationCount());
+    }
+
+    @Test
+    void wordText_ReturnsTextForAnyKnownWordAndFallbackOtherwise() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple(2L, 1L, 3L, GROUP_ID)), words);
+
+        assertEquals("cat", graph.wordText(1L, "?"));
+        assertEquals("dog", graph.wordText(4L, "?"));
+        assertEquals("?", graph.wordText(999L, "?"));
+    }
+
+    @Test
+    void suggestionsOfVerb_ReturnsOnlyThatVerbsWordsInIdOrder() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(
+                tuple(2L, 4L, 3L, GROUP_ID),
+                tuple(2L, 1L, 3L, GROUP_ID),
+                tuple(6L, 1L, 5L, null)
+        ), words);
+
+        SuggestionResponse result = graph.suggestions(2L);
+
+        assertEquals(List.of(2L), result.verbs().stream().map(VerbSuggestion::id).toList());
+        assertEquals(List.of(1L, 4L), result.subjects().stream().map(WordReference::getId).toList());
+        assertEquals(List.of(3L), result.objects().stream().map(WordReference::getId).toList());
+    }
+
+    @Test
+    void suggestionsOfVerb_WithoutCombinations_Throws() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple(2L, 1L, 3L, GROUP_ID)), words);
+
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () -> graph.suggestions(10L));
+        assertEquals("No combinations found for verb ID: 10", exception.getMessage());
+    }
+
+    @Test
+    void validate_BuildsSentenceWithPlaceholdersForUnknownWords() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple(2L, 1L, 3L, GROUP_ID)), words);
+
+        ValidationResponse valid = graph.validate(new ValidationRequest(1L, 2L, 3L));
+        ValidationResponse invalid = graph.validate(new ValidationRequest(99L, 2L, 5L));
+
+        assertTrue(valid.valid());
+        assertEquals("cat eats fish", valid.sentence());
+        assertFalse(invalid.valid());
+        assertEquals("[Unknown Subject] eats bone", invalid.sentence());
+        assertNotEquals(valid.message(), invalid.message());
+    }
+
+    private static CombinationTuple tuple(Long verbId, Long subjectId, Long objectId, Long groupId) {
+        return new CombinationTuple(verbId, subjectId, objectId, groupId);
+    }
+}
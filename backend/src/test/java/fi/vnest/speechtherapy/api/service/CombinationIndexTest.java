@@ -0,0 +1,64 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
+import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CombinationIndexTest {
+
+    @Mock
+    private AllowedCombinationRepository combinationRepository;
+
+    @Mock
+    private WordRepository wordRepository;
+
+    @InjectMocks
+    private CombinationIndex combinationIndex;
+
+    private final CombinationTuple combination = new CombinationTuple(2L, 1L, 3L, null);
+
+    @Test
+    void current_CompilesOnceAndReusesGraph() {
+        when(combinationRepository.findAllTuples()).thenReturn(List.of(combination));
+        when(wordRepository.findAllReferences()).thenReturn(List.of(
+                WordReference.of(1L, "cat"), WordReference.of(2L, "eats"), WordReference.of(3L, "fish")));
+
+        CombinationGraph first = combinationIndex.current();
+        CombinationGraph second = combinationIndex.current();
+
+        assertSame(first, second);
+        assertEquals(1, first.verbs().size());
+        assertEquals("eats", first.verbs().get(2L).text());
+        verify(combinationRepository, times(1)).findAllTuples();
+        verify(wordRepository, times(1)).findAllReferences();
+        verify(combinationRepository, never()).findAllWithWords();
+        verify(wordRepository, never()).findAll();
+    }
+
+    @Test
+    void onLexiconChanged_RebuildsOnNextRead() {
+        when(combinationRepository.findAllTuples())
+                .thenReturn(List.of(combination))
+                .thenReturn(List.of());
+
+        CombinationGraph before = combinationIndex.current();
+        combinationIndex.onLexiconChanged(new LexiconChangedEvent());
+        CombinationGraph after = combinationIndex.current();
+
+        assertNotSame(before, after);
+        assertTrue(after.verbs().isEmpty());
+        verify(combinationRepository, times(2)).findAllTuples();
+    }
+}
@@ -2,10 +2,13 @@ package fi.vnest.speechtherapy.api.service;
 
 import fi.vnest.speechtherapy.api.dto.*;
 import fi.vnest.speechtherapy.api.model.AllowedCombination;
+import fi.vnest.speechtherapy.api.model.CombinationKey;
+import fi.vnest.speechtherapy.api.model.CombinationTuple;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordGroup;
 import fi.vnest.speechtherapy.api.model.WordType;
 import fi.vnest.speechtherapy.api.repository.AllowedCombinationRepository;
+import fi.vnest.speechtherapy.api.repository.CombinationBatchRepository;
 import fi.vnest.speechtherapy.api.repository.WordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -29,6 +33,15 @@ class CombinationServiceTest {
     @Mock
     private WordRepository wordRepository;
 
+    @Mock
+    private CombinationBatchRepository combinationBatchRepository;
+
+    @Mock
+    private CombinationIndex combinationIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CombinationService combinationService;
 
@@ -64,26 +77,28 @@ class CombinationServiceTest {
     @Test
     void findAll_WithoutVerbId_ReturnsAllCombinations() {
         List<AllowedCombination> expected = List.of(allowedCombination);
-        when(combinationRepository.findAll()).thenReturn(expected);
+        when(combinationRepository.findAllWithWords()).thenReturn(expected);
 
         List<AllowedCombination> result = combinationService.findAll(null);
 
         assertEquals(expected, result);
-        verify(combinationRepository).findAll();
-        verify(combinationRepository, never()).findByVerbId(anyLong());
+        verify(combinationRepository).findAllWithWords();
+        verify(combinationRepository, never()).findAll();
+        verify(combinationRepository, never()).findAllWithWordsByVerbId(anyLong());
     }
 
     @Test
     void findAll_WithVerbId_ReturnsFilteredCombinations() {
         Long verbId = 2L;
         List<AllowedCombination> expected = List.of(allowedCombination);
-        when(combinationRepository.findByVerbId(verbId)).thenReturn(expected);
+        when(combinationRepository.findAllWithWordsByVerbId(verbId)).thenReturn(expected);
 
         List<AllowedCombination> result = combinationService.findAll(verbId);
 
         assertEquals(expected, result);
-        verify(combinationRepository).findByVerbId(verbId);
-        verify(combinationRepository, never()).findAll();
+        verify(combinationRepository).findAllWithWordsByVerbId(verbId);
+        verify(combinationRepository, never()).findByVerbId(anyLong());
+        verify(combinationRepository, never()).findAllWithWords();
     }
 
     // ========== createCombination Tests ==========
@@ -203,15 +218,22 @@ class CombinationServiceTest {
         when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
         when(wordRepository.findAllById(anyList()))
                 .thenReturn(List.of(subjectWord, objectWord, subject2, object2));
-        when(combinationRepository.findBySubjectIdAndVerbIdAndObjectId(anyLong(), anyLong(), anyLong()))
-                .thenReturn(Optional.empty());
-        when(combinationRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        List<AllowedCombination> result = combinationService.createCombinationsBatch(batchRequest);
-
-        assertEquals(4, result.size()); // 2 subjects x 2 objects = 4 combinations
-        verify(combinationRepository).saveAll(anyList());
+        when(combinationRepository.findKeysByVerbId(2L)).thenReturn(List.of());
+        when(combinationBatchRepository.insertIgnoringDuplicates(anyCollection())).thenReturn(new int[]{1, 1, 1, 1});
+        when(combinationRepository.findAllWithWordsByVerbId(2L)).thenReturn(List.of(
+                new AllowedCombination(subjectWord, verbWord, objectWord),
+                new AllowedCombination(subjectWord, verbWord, object2),
+                new AllowedCombination(subject2, verbWord, objectWord),
+                new AllowedCombination(subject2, verbWord, object2)
+        ));
+
+        CombinationBatchResult result = combinationService.createCombinationsBatch(batchRequest);
+
+        assertEquals(4, result.created().size()); // 2 subjects x 2 objects = 4 combinations
+        assertEquals(0, result.skipped());
+        verify(combinationBatchRepository).insertIgnoringDuplicates(argThat(keys -> keys.size() == 4));
+        verify(combinationRepository, never()).findBySubjectIdAndVerbIdAndObjectId(anyLong(), anyLong(), anyLong());
+        verify(eventPublisher).publishEvent(any(LexiconChangedEvent.class));
     }
 
     @Test
@@ -227,7 +249,7 @@ class CombinationServiceTest {
                 () -> combinationService.createCombinationsBatch(batchRequest));
 
         assertTrue(exception.getMessage().contains("Verb word not found"));
-        verify(combinationRepository, never()).saveAll(any());
+        verify(combinationBatchRepository, never()).insertIgnoringDuplicates(any());
     }
 
     @Test
@@ -240,15 +262,59 @@ class CombinationServiceTest {
         when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
         when(wordRepository.findAllById(anyList()))
                 .thenReturn(List.of(subjectWord, objectWord));
-        when(combinationRepository.findBySubjectIdAndVerbIdAndObjectId(1L, 2L, 3L))
-                .thenReturn(Optional.of(allowedCombination));
-        when(combinationRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(combinationRepository.findKeysByVerbId(2L))
+                .thenReturn(List.of(new CombinationKey(1L, 2L, 3L)));
+
+        CombinationBatchResult result = combinationService.createCombinationsBatch(batchRequest);
+
+        assertEquals(0, result.created().size());
+        assertEquals(1, result.skipped());
+        verify(combinationBatchRepository, never()).insertIgnoringDuplicates(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createCombinationsBatch_CountsUnknownWordsAsSkipped() {
+        CombinationBatchRequest batchRequest = new CombinationBatchRequest();
+        batchRequest.setVerbId(2L);
+        batchRequest.setSubjectIds(List.of(1L, 999L));
+        batchRequest.setObjectIds(List.of(3L));
+
+        when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
+        when(wordRepository.findAllById(anyList()))
+                .thenReturn(List.of(subjectWord, objectWord));
+        when(combinationRepository.findKeysByVerbId(2L)).thenReturn(List.of());
+        when(combinationBatchRepository.insertIgnoringDuplicates(anyCollection())).thenReturn(new int[]{1});
+        when(combinationRepository.findAllWithWordsByVerbId(2L))
+                .thenReturn(List.of(allowedCombination));
+
+        CombinationBatchResult result = combinationService.createCombinationsBatch(batchRequest);
+
+        assertEquals(1, result.created().size());
+        assertEquals(1, result.skipped());
+        verify(combinationBatchRepository).insertIgnoringDuplicates(Set.of(new CombinationKey(1L, 2L, 3L)));
+    }
+
+    @Test
+    void createCombinationsBatch_CountsConcurrentlyInsertedCombinationsAsSkipped() {
+        CombinationBatchRequest batchRequest = new CombinationBatchRequest();
+        batchRequest.setVerbId(2L);
+        batchRequest.setSubjectIds(List.of(1L));
+        batchRequest.setObjectIds(List.of(3L));
 
-        List<AllowedCombination> result = combinationService.createCombinationsBatch(batchRequest);
+        when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
+        when(wordRepository.findAllById(anyList()))
+                .thenReturn(List.of(subjectWord, objectWord));
+        when(combinationRepository.findKeysByVerbId(2L)).thenReturn(List.of());
+        // Another admin inserted the same triple after the existing keys were read
+        when(combinationBatchRepository.insertIgnoringDuplicates(anyCollection())).thenReturn(new int[]{0});
+
+        CombinationBatchResult result = combinationService.createCombinationsBatch(batchRequest);
 
-        assertEquals(0, result.size());
-        //verify(combinationRepository).saveAll(argThat(List::isEmpty));
+        assertEquals(0, result.created().size());
+        assertEquals(1, result.skipped());
+        verify(combinationRepository, never()).findAllWithWordsByVerbId(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     // ========== deleteCombination Tests ==========
@@ -256,23 +322,25 @@ class CombinationServiceTest {
     @Test
     void deleteCombination_WithExistingId_DeletesCombination() {
         Long combinationId = 1L;
-        when(combinationRepository.existsById(combinationId)).thenReturn(true);
+        when(combinationRepository.deleteSingleById(combinationId)).thenReturn(1);
 
-        combinationService.deleteCombination(combinationId);
+        int deleted = combinationService.deleteCombination(combinationId);
 
-        verify(combinationRepository).deleteById(combinationId);
+        assertEquals(1, deleted);
+        verify(combinationRepository).deleteSingleById(combinationId);
+        verify(combinationRepository, never()).deleteById(any());
     }
 
     @Test
     void deleteCombination_WithNonExistingId_ThrowsNoSuchElementException() {
         Long combinationId = 999L;
-        when(combinationRepository.existsById(combinationId)).thenReturn(false);
+        when(combinationRepository.deleteSingleById(combinationId)).thenReturn(0);
 
         NoSuchElementException exception = assertThrows(NoSuchElementException.class,
                 () -> combinationService.deleteCombination(combinationId));
 
         assertTrue(exception.getMessage().contains("Allowed combination not found"));
-        verify(combinationRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     // ========== deleteCombinationsByVerb Tests ==========
@@ -282,9 +350,13 @@ class CombinationServiceTest {
         Long verbId = 2L;
         when(wordRepository.existsById(verbId)).thenReturn(true);
 
-        combinationService.deleteCombinationsByVerb(verbId);
+        when(combinationRepository.deleteAllByVerbId(verbId)).thenReturn(3);
 
+        int deleted = combinationService.deleteCombinationsByVerb(verbId);
+
+        assertEquals(3, deleted);
         verify(combinationRepository).deleteAllByVerbId(verbId);
+        verify(combinationRepository, never()).findByVerbId(anyLong());
     }
 
     @Test
@@ -299,210 +371,173 @@ class CombinationServiceTest {
         verify(combinationRepository, never()).deleteAllByVerbId(any());
     }
 
-    @Test
-    void getExerciseSuggestions_ReturnsCorrectStructure() {
-        when(combinationRepository.findAll()).thenReturn(List.of(allowedCombination));
-        when(wordRepository.findAllById(Set.of(1L))).thenReturn(List.of(subjectWord));
-        when(wordRepository.findAllById(Set.of(3L))).thenReturn(List.of(objectWord));
+    // ========== deleteCombinations Tests ==========
 
-        SuggestionResponse result = combinationService.getExerciseSuggestions(null);
+    @Test
+    void deleteCombinations_DeletesInOneStatementAndPublishesOneEvent() {
+        Set<Long> ids = Set.of(1L, 2L, 999L);
+        when(combinationRepository.deleteAllByIdIn(ids)).thenReturn(2);
 
-        assertNotNull(result);
-        assertEquals(1, result.verbs().size());
-        assertEquals(1, result.subjects().size());
-        assertEquals(1, result.objects().size());
+        int deleted = combinationService.deleteCombinations(List.of(1L, 2L, 2L, 999L));
 
-        VerbSuggestion verbSuggestion = result.verbs().get(0);
-        assertEquals(2L, verbSuggestion.id());
-        assertEquals("eats", verbSuggestion.text());
-        assertTrue(verbSuggestion.compatibleSubjectIds().contains(1L));
-        assertTrue(verbSuggestion.compatibleObjectIds().contains(3L));
+        assertEquals(2, deleted);
+        verify(combinationRepository).deleteAllByIdIn(ids);
+        verify(eventPublisher, times(1)).publishEvent(any(LexiconChangedEvent.class));
     }
 
     @Test
-    void getExerciseSuggestions_WithMultipleCombinations_GroupsCorrectly() {
-        Word subject2 = new Word();
-        subject2.setId(4L);
-        subject2.setText("dog");
+    void deleteCombinations_WithUnknownIds_PublishesNothing() {
+        when(combinationRepository.deleteAllByIdIn(Set.of(999L))).thenReturn(0);
 
-        AllowedCombination otherCombination = new AllowedCombination(subject2, verbWord, objectWord);
+        int deleted = combinationService.deleteCombinations(List.of(999L));
 
-        when(combinationRepository.findAll()).thenReturn(List.of(allowedCombination, otherCombination));
+        assertEquals(0, deleted);
+        verifyNoInteractions(eventPublisher);
+    }
 
-        // Mock separate calls for subjects and objects
-        when(wordRepository.findAllById(argThat(ids -> {
-            if (ids == null) return false;
-            List<Long> idList = new ArrayList<>();
-            ids.forEach(idList::add);
-            return idList.size() == 2 && idList.contains(1L) && idList.contains(4L);
-        }))).thenReturn(List.of(subjectWord, subject2));
+    @Test
+    void deleteCombinations_WithNoIds_DeletesNothing() {
+        int deleted = combinationService.deleteCombinations(List.of());
 
-        when(wordRepository.findAllById(argThat(ids -> {
-            if (ids == null) return false;
-            List<Long> idList = new ArrayList<>();
-            ids.forEach(idList::add);
-            return idList.size() == 1 && idList.contains(3L);
-        }))).thenReturn(List.of(objectWord));
+        assertEquals(0, deleted);
+        verify(combinationRepository, never()).deleteAllByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void getExerciseSuggestions_ReturnsPrecompiledSuggestionsFromIndex() {
+        CombinationGraph graph = CombinationGraph.compile(List.of(tuple()), List.of());
+        when(combinationIndex.current()).thenReturn(graph);
 
         SuggestionResponse result = combinationService.getExerciseSuggestions(null);
 
-        assertNotNull(result);
-        assertEquals(1, result.verbs().size());
-        assertEquals(2, result.subjects().size());
-        assertEquals(1, result.objects().size());
+        assertSame(graph.suggestions(), result);
+        verify(combinationRepository, never()).findAll();
+        verify(wordRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void createCombination_PublishesLexiconChangedEvent() {
+        CombinationRequest request = new CombinationRequest();
+        request.setSubjectId(1L);
+        request.setVerbId(2L);
+        request.setObjectId(3L);
 
-        VerbSuggestion verbSuggestion = result.verbs().get(0);
-        assertEquals(2, verbSuggestion.compatibleSubjectIds().size());
-        assertTrue(verbSuggestion.compatibleSubjectIds().contains(1L));
-        assertTrue(verbSuggestion.compatibleSubjectIds().contains(4L));
+        when(wordRepository.findById(1L)).thenReturn(Optional.of(subjectWord));
+        when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
+        when(wordRepository.findById(3L)).thenReturn(Optional.of(objectWord));
+        when(combinationRepository.findBySubjectIdAndVerbIdAndObjectId(1L, 2L, 3L))
+                .thenReturn(Optional.empty());
+        when(combinationRepository.save(any(AllowedCombination.class)))
+                .thenReturn(allowedCombination);
+
+        combinationService.createCombination(request);
+
+        verify(eventPublisher).publishEvent(any(LexiconChangedEvent.class));
     }
 
+    @Test
+    void deleteCombination_PublishesLexiconChangedEvent() {
+        when(combinationRepository.deleteSingleById(1L)).thenReturn(1);
+
+        combinationService.deleteCombination(1L);
+
+        verify(eventPublisher).publishEvent(new LexiconChangedEvent());
+    }
+
+    @Test
+    void deleteCombinationsByVerb_PublishesLexiconChangedEvent() {
+        when(wordRepository.existsById(2L)).thenReturn(true);
+        when(combinationRepository.deleteAllByVerbId(2L)).thenReturn(1);
+
+        combinationService.deleteCombinationsByVerb(2L);
+
+        verify(eventPublisher).publishEvent(new LexiconChangedEvent());
+    }
 
     @Test
     void validateCombination_WithValidCombination_ReturnsSuccessResponse() {
         ValidationRequest request = new ValidationRequest(1L, 2L, 3L);
-        when(combinationRepository.findBySubjectIdAndVerbIdAndObjectId(1L, 2L, 3L))
-                .thenReturn(Optional.of(allowedCombination));
+        when(combinationIndex.current()).thenReturn(CombinationGraph.compile(
+                List.of(tuple()), wordReferences()));
 
         ValidationResponse result = combinationService.validateCombination(request);
 
         assertTrue(result.valid());
         assertEquals("cat eats fish", result.sentence());
         assertEquals("Oikein! Hyvä lause.", result.message());
+        verify(combinationRepository, never()).findBySubjectIdAndVerbIdAndObjectId(anyLong(), anyLong(), anyLong());
     }
 
     @Test
     void validateCombination_WithInvalidCombination_ReturnsFailureResponse() {
         ValidationRequest request = new ValidationRequest(1L, 2L, 3L);
-        when(combinationRepository.findBySubjectIdAndVerbIdAndObjectId(1L, 2L, 3L))
-                .thenReturn(Optional.empty());
-        when(wordRepository.findById(1L)).thenReturn(Optional.of(subjectWord));
-        when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
-        when(wordRepository.findById(3L)).thenReturn(Optional.of(objectWord));
+        when(combinationIndex.current()).thenReturn(CombinationGraph.compile(
+                List.of(), wordReferences()));
 
         ValidationResponse result = combinationService.validateCombination(request);
 
         assertFalse(result.valid());
         assertEquals("cat eats fish", result.sentence());
         assertEquals("Väärin. Tuo lause ei ole sallittu.", result.message());
+        verify(wordRepository, never()).findById(anyLong());
     }
 
     @Test
     void validateCombination_WithMissingWords_HandlesGracefully() {
         ValidationRequest request = new ValidationRequest(999L, 2L, 3L);
-        when(combinationRepository.findBySubjectIdAndVerbIdAndObjectId(999L, 2L, 3L))
-                .thenReturn(Optional.empty());
-        when(wordRepository.findById(999L)).thenReturn(Optional.empty());
-        when(wordRepository.findById(2L)).thenReturn(Optional.of(verbWord));
-        when(wordRepository.findById(3L)).thenReturn(Optional.of(objectWord));
+        when(combinationIndex.current()).thenReturn(CombinationGraph.compile(
+                List.of(tuple()), wordReferences()));
 
         ValidationResponse result = combinationService.validateCombination(request);
 
         assertFalse(result.valid());
-        assertTrue(result.sentence().contains("[Unknown Subject]"));
+        assertEquals("[Unknown Subject] eats fish", result.sentence());
         assertEquals("Väärin. Tuo lause ei ole sallittu.", result.message());
     }
 
-    // ========== getSuggestionsByVerb Tests ==========
-
     @Test
-    void getSuggestionsByVerb_WithValidVerbId_ReturnsCorrectSuggestions() {
-        Long verbId = 2L;
-
-        Word subject2 = new Word();
-        subject2.setId(4L);
-        subject2.setText("dog");
-        subject2.setType(WordType.SUBJECT);
-
-        Word object2 = new Word();
-        object2.setId(5L);
-        object2.setText("bone");
-        object2.setType(WordType.OBJECT);
-
-        AllowedCombination combo1 = new AllowedCombination(subjectWord, verbWord, objectWord);
-        AllowedCombination combo2 = new AllowedCombination(subject2, verbWord, objectWord);
-        AllowedCombination combo3 = new AllowedCombination(subjectWord, verbWord, object2);
-
-        when(combinationRepository.findByVerbId(verbId))
-                .thenReturn(List.of(combo1, combo2, combo3));
-        when(wordRepository.findAllById(argThat(ids -> {
-            if (ids == null) return false;
-            List<Long> idList = new ArrayList<>();
-            ids.forEach(idList::add);
-            return idList.size() == 2 && idList.contains(1L) && idList.contains(4L);
-        }))).thenReturn(List.of(subjectWord, subject2));
-        when(wordRepository.findAllById(argThat(ids -> {
-            if (ids == null) return false;
-            List<Long> idList = new ArrayList<>();
-            ids.forEach(idList::add);
-            return idList.size() == 2 && idList.contains(3L) && idList.contains(5L);
-        }))).thenReturn(List.of(objectWord, object2));
-
-        SuggestionResponse result = combinationService.getSuggestionsByVerb(verbId);
-
-        assertNotNull(result);
-        assertEquals(1, result.verbs().size());
-        assertEquals(2, result.subjects().size());
-        assertEquals(2, result.objects().size());
-
-        VerbSuggestion verbSuggestion = result.verbs().get(0);
-        assertEquals(verbId, verbSuggestion.id());
-        assertEquals("eats", verbSuggestion.text());
-        assertEquals(2, verbSuggestion.compatibleSubjectIds().size());
-        assertTrue(verbSuggestion.compatibleSubjectIds().contains(1L));
-        assertTrue(verbSuggestion.compatibleSubjectIds().contains(4L));
-        assertEquals(2, verbSuggestion.compatibleObjectIds().size());
-        assertTrue(verbSuggestion.compatibleObjectIds().contains(3L));
-        assertTrue(verbSuggestion.compatibleObjectIds().contains(5L));
-
-        verify(combinationRepository).findByVerbId(verbId);
+    void validateCombinations_UsesOneSnapshotAndKeepsRequestOrder() {
+        when(combinationIndex.current()).thenReturn(CombinationGraph.compile(
+                List.of(tuple()), wordReferences()));
+
+        List<ValidationResponse> results = combinationService.validateCombinations(List.of(
+                new ValidationRequest(3L, 2L, 1L),
+                new ValidationRequest(1L, 2L, 3L),
+                new ValidationRequest(1L, 2L, 999L)
+        ));
+
+        assertEquals(3, results.size());
+        assertFalse(results.get(0).valid());
+        assertEquals("fish eats cat", results.get(0).sentence());
+        assertTrue(results.get(1).valid());
+        assertEquals("cat eats fish", results.get(1).sentence());
+        assertFalse(results.get(2).valid());
+        assertEquals("cat eats [Unknown Object]", results.get(2).sentence());
+        verify(combinationIndex, times(1)).current();
+        verifyNoInteractions(combinationRepository);
     }
 
-    @Test
-    void getSuggestionsByVerb_WithSingleCombination_ReturnsSingleSubjectAndObject() {
-        Long verbId = 2L;
-
-        when(combinationRepository.findByVerbId(verbId))
-                .thenReturn(List.of(allowedCombination));
-        when(wordRepository.findAllById(Set.of(1L))).thenReturn(List.of(subjectWord));
-        when(wordRepository.findAllById(Set.of(3L))).thenReturn(List.of(objectWord));
-
-        SuggestionResponse result = combinationService.getSuggestionsByVerb(verbId);
-
-        assertNotNull(result);
-        assertEquals(1, result.verbs().size());
-        assertEquals(1, result.subjects().size());
-        assertEquals(1, result.objects().size());
-
-        VerbSuggestion verbSuggestion = result.verbs().get(0);
-        assertEquals(1, verbSuggestion.compatibleSubjectIds().size());
-        assertEquals(1, verbSuggestion.compatibleObjectIds().size());
-    }
+    // ========== getSuggestionsByVerb Tests ==========
 
     @Test
-    void getSuggestionsByVerb_WithNonExistentVerbId_ThrowsNoSuchElementException() {
-        Long verbId = 999L;
-        when(combinationRepository.findByVerbId(verbId)).thenReturn(List.of());
+    void getSuggestionsByVerb_ReturnsVerbFromIndex() {
+        when(combinationIndex.current()).thenReturn(CombinationGraph.compile(List.of(tuple()), wordReferences()));
 
-        NoSuchElementException exception = assertThrows(NoSuchElementException.class,
-                () -> combinationService.getSuggestionsByVerb(verbId));
+        SuggestionResponse result = combinationService.getSuggestionsByVerb(verbWord.getId());
 
-        assertTrue(exception.getMessage().contains("No combinations found for verb ID: " + verbId));
-        verify(combinationRepository).findByVerbId(verbId);
+        assertEquals(1, result.verbs().size());
+        assertEquals(verbWord.getId(), result.verbs().get(0).id());
+        assertEquals(subjectWord.getText(), result.subjects().get(0).getText());
+        assertEquals(objectWord.getText(), result.objects().get(0).getText());
+        verifyNoInteractions(combinationRepository, wordRepository);
     }
 
     @Test
-    void getSuggestionsByVerb_ExtractsGroupIdFromVerb() {
-        Long verbId = 2L;
-
-        when(combinationRepository.findByVerbId(verbId))
-                .thenReturn(List.of(allowedCombination));
-        when(wordRepository.findAllById(anySet())).thenReturn(List.of(subjectWord, objectWord));
-
-        SuggestionResponse result = combinationService.getSuggestionsByVerb(verbId);
+    void getSuggestionsByVerb_WithNonExistentVerbId_PropagatesNoSuchElementException() {
+        when(combinationIndex.current()).thenReturn(CombinationGraph.compile(List.of(tuple()), wordReferences()));
 
-        VerbSuggestion verbSuggestion = result.verbs().get(0);
-        assertEquals(group.getId(), verbSuggestion.groupId());
+        assertThrows(NoSuchElementException.class, () -> combinationService.getSuggestionsByVerb(999L));
     }
 
     // ========== findById Tests ==========
@@ -510,7 +545,7 @@ class CombinationServiceTest {
     @Test
     void findById_WithExistingId_ReturnsCombination() {
         Long combinationId = 1L;
-        when(combinationRepository.findById(combinationId))
+        when(combinationRepository.findWithWordsById(combinationId))
                 .thenReturn(Optional.of(allowedCombination));
 
         AllowedCombination result = combinationService.findById(combinationId);
@@ -520,31 +555,43 @@ class CombinationServiceTest {
         assertEquals(subjectWord, result.getSubject());
         assertEquals(verbWord, result.getVerb());
         assertEquals(objectWord, result.getObject());
-        verify(combinationRepository).findById(combinationId);
+        verify(combinationRepository).findWithWordsById(combinationId);
     }
 
     @Test
     void findById_WithNonExistentId_ThrowsNoSuchElementException() {
         Long combinationId = 999L;
-        when(combinationRepository.findById(combinationId)).thenReturn(Optional.empty());
+        when(combinationRepository.findWithWordsById(combinationId)).thenReturn(Optional.empty());
 
         NoSuchElementException exception = assertThrows(NoSuchElementException.class,
                 () -> combinationService.findById(combinationId));
 
         assertTrue(exception.getMessage().contains("Allowed combination not found with ID: " + combinationId));
-        verify(combinationRepository).findById(combinationId);
+        verify(combinationRepository).findWithWordsById(combinationId);
     }
 
     @Test
     void findById_VerifiesCorrectRepositoryMethodCalled() {
         Long combinationId = 5L;
-        when(combinationRepository.findById(combinationId))
+        when(combinationRepository.findWithWordsById(combinationId))
                 .thenReturn(Optional.of(allowedCombination));
 
         combinationService.findById(combinationId);
 
-        verify(combinationRepository, times(1)).findById(combinationId);
+        verify(combinationRepository, times(1)).findWithWordsById(combinationId);
         verify(combinationRepository, never()).findAll();
         verify(combinationRepository, never()).findByVerbId(anyLong());
     }
+
+    private CombinationTuple tuple() {
+        return new CombinationTuple(verbWord.getId(), subjectWord.getId(), objectWord.getId(), group.getId());
+    }
+
+    private List<WordReference> wordReferences() {
+        return List.of(
+                WordReference.fromEntity(subjectWord),
+                WordReference.fromEntity(verbWord),
+                WordReference.fromEntity(objectWord)
+        );
+    }
 }
@@ -0,0 +1,140 @@
+package fi.vnest.speechtherapy.api.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexiconCsvParserTest {
+
+    @Test
+    void parse_WithValidLine_ReturnsTrimmedEntry() throws IOException {
+        LexiconCsvParser.Result result = parse("SECTION;SUBJECT;VERB;OBJECT\n 1 ; koira ;SAADA; luu\n");
+
+        assertEquals(Set.of(new LexiconEntry("1", "koira", "SAADA", "luu")), result.triples());
+        assertEquals(1, result.entryCount());
+        assertTrue(result.errors().isEmpty());
+    }
+
+    @Test
+    void parse_WithEmptyFile_ReturnsNothing() throws IOException {
+        LexiconCsvParser.Result result = parseResource("test-data/empty.csv");
+
+        assertTrue(result.triples().isEmpty());
+        assertTrue(result.errors().isEmpty());
+    }
+
+    @Test
+    void parse_WithDuplicateLines_CountsThemButKeepsOneTriple() throws IOException {
+        LexiconCsvParser.Result result = parse("SECTION;SUBJECT;VERB;OBJECT\n1;koira;SAADA;luu\n1;koira;SAADA;luu\n");
+
+        assertEquals(2, result.entryCount());
+        assertEquals(1, result.triples().size());
+    }
+
+    @Test
+    void parse_WithInvalidFormat_ReportsColumnCountWithLineNumber() throws IOException {
+        LexiconCsvParser.Result result = parseResource("test-data/invalid_format.csv");
+
+        assertTrue(result.triples().isEmpty());
+        assertEquals(List.of(
+                "Line 2: Invalid CSV format. Expected 4 columns, found 3",
+                "Line 3: Invalid CSV format. Expected 4 columns, found 6"
+        ), result.errors());
+    }
+
+    @Test
+    void parse_WithEmptyFields_RejectsEveryLine() throws IOException {
+        LexiconCsvParser.Result result = parseResource("test-data/empty_fields.csv");
+
+        assertTrue(result.triples().isEmpty());
+        assertEquals(4, result.errors().size());
+    }
+
+    @Test
+    void parse_WithMixedLines_ContinuesAfterErrors() throws IOException {
+        LexiconCsvParser.Result result = parseResource("test-data/mixed_valid_invalid.csv");
+
+        assertEquals(List.of(
+                new LexiconEntry("1", "koira", "SAADA", "luu"),
+                new LexiconEntry("1", "kissa", "SYÖDÄ", "kala")
+        ), new ArrayList<>(result.triples()));
+        assertEquals(List.of("Line 3: Invalid CSV format. Expected 4 columns, found 3"), result.errors());
+    }
+
+    @Test
+    void parse_WithBlankLines_SkipsThem() throws IOException {
+        LexiconCsvParser.Result result = parseResource("test-data/with_blank_lines.csv");
+
+        assertEquals(2, result.entryCount());
+        assertTrue(result.errors().isEmpty());
+    }
+
+    @Test
+    void parse_InParallelChunks_MatchesSequentialParse() throws IOException {
+        StringBuilder csv = new StringBuilder("SECTION;SUBJECT;VERB;OBJECT\n");
+        for (int i = 0; i < 5_000; i++) {
+            if (i % 97 == 0) {
+                csv.append("broken;line\n");
+            } else if (i % 31 == 0) {
+                csv.append('\n');
+            } else {
+                csv.append(i % 7).append(";subject").append(i % 50).append(";VERB").append(i % 11)
+                        .append(";object").append(i % 13).append('\n');
+            }
+        }
+
+        LexiconCsvParser.Result sequential = parse(csv.toString());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            LexiconCsvParser.Result parallel = LexiconCsvParser.parse(
+                    new BufferedReader(new StringReader(csv.toString())), pool, 64);
+
+            assertEquals(sequential.entryCount(), parallel.entryCount());
+            assertEquals(new ArrayList<>(sequential.triples()), new ArrayList<>(parallel.triples()));
+            assertEquals(sequential.errors(), parallel.errors());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parse_InParallelChunks_ReportsOriginalLineNumbers() throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            LexiconCsvParser.Result result = LexiconCsvParser.parse(new BufferedReader(new StringReader(
+                    "SECTION;SUBJECT;VERB;OBJECT\n1;koira;SAADA;luu\n1;kissa;SYÖDÄ\n\n1;;SAADA;luu\n1;koira;SAADA;luu\n")),
+                    pool, 1);
+
+            assertEquals(2, result.entryCount());
+            assertEquals(List.of(
+                    "Line 3: Invalid CSV format. Expected 4 columns, found 3",
+                    "Line 5: Empty word found in CSV"
+            ), result.errors());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private LexiconCsvParser.Result parse(String csv) throws IOException {
+        return LexiconCsvParser.parse(new BufferedReader(new StringReader(csv)));
+    }
+
+    private LexiconCsvParser.Result parseResource(String path) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8))) {
+            return LexiconCsvParser.parse(reader);
+        }
+    }
+}
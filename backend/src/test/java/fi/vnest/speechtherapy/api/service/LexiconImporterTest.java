@@ -0,0 +1,229 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.model.CombinationKey;
+import fi.vnest.speechtherapy.api.model.WordKey;
+import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.repository.CombinationBatchRepository;
+import fi.vnest.speechtherapy.api.repository.LexiconBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LexiconImporterTest {
+
+    private static final String HEADER = "SECTION;SUBJECT;VERB;OBJECT\n";
+
+    @Mock
+    private LexiconBatchRepository lexiconBatchRepository;
+
+    @Mock
+    private CombinationBatchRepository combinationBatchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LexiconImporter lexiconImporter;
+
+    private final Map<String, Long> groups = new HashMap<>();
+    private final Map<WordKey, Long> words = new HashMap<>();
+    private final Map<CombinationKey, Long> combinations = new HashMap<>();
+    private long nextId = 100;
+
+    @BeforeEach
+    void setUp() {
+        // Two-line chunks so that even the small files below go through the pool when there is more than one CPU
+        lexiconImporter = new LexiconImporter(lexiconBatchRepository, combinationBatchRepository,
+                transactionTemplate, eventPublisher, true, 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(lexiconBatchRepository.findGroupIds()).thenAnswer(invocation -> new HashMap<>(groups));
+        lenient().doAnswer(invocation -> {
+            for (String name : invocation.<Collection<String>>getArgument(0)) {
+                groups.put(name, nextId++);
+            }
+            return null;
+        }).when(lexiconBatchRepository).insertGroups(any());
+        lenient().when(lexiconBatchRepository.findWordIds()).thenAnswer(invocation -> new HashMap<>(words));
+        lenient().when(lexiconBatchRepository.insertWords(any())).thenAnswer(invocation -> {
+            Map<WordKey, Long> assigned = new LinkedHashMap<>();
+            for (WordKey word : invocation.<Collection<WordKey>>getArgument(0)) {
+                assigned.put(word, nextId++);
+            }
+            words.putAll(assigned);
+            return assigned;
+        });
+        lenient().when(combinationBatchRepository.findAllIds()).thenAnswer(invocation -> new HashMap<>(combinations));
+        lenient().when(combinationBatchRepository.insertIgnoringDuplicates(any())).thenAnswer(invocation -> {
+            int[] inserted = new int[invocation.<Collection<CombinationKey>>getArgument(0).size()];
+            Arrays.fill(inserted, 1);
+            return inserted;
+        });
+    }
+
+    @Test
+    void importCsv_DedupesWordsAndTriplesBeforeInserting() throws IOException {
+        LexiconImportReport report = importCsv(
+                "1;koira;SAADA;luu\n" +
+                "1;koira;SAADA;lahja\n" +
+                "1;koira;SAADA;luu\n");
+
+        assertEquals(3, report.entries());
+        assertEquals(1, report.groupsCreated());
+        assertEquals(4, report.wordsCreated());
+        assertEquals(2, report.combinationsCreated());
+        verify(lexiconBatchRepository, times(1)).insertGroups(List.of("1"));
+        verify(lexiconBatchRepository, times(1)).insertWords(any());
+        verify(combinationBatchRepository, times(1)).insertIgnoringDuplicates(any());
+    }
+
+    @Test
+    void importCsv_CountsTriplesInsertedConcurrentlyAsUnchanged() throws IOException {
+        doReturn(new int[]{1, 0}).when(combinationBatchRepository).insertIgnoringDuplicates(any());
+
+        LexiconImportReport report = importCsv("1;koira;SAADA;luu\n1;koira;SAADA;lahja\n");
+
+        assertEquals(1, report.combinationsCreated());
+        assertEquals(1, report.combinationsUnchanged());
+    }
+
+    @Test
+    void importCsv_WithSameVerbInDifferentGroups_CreatesSeparateVerbs() throws IOException {
+        importCsv("1;koira;SAADA;luu\n2;kissa;SAADA;kala\n");
+
+        Long group1 = groups.get("1");
+        Long group2 = groups.get("2");
+        assertNotNull(words.get(new WordKey("SAADA", WordType.VERB, group1)));
+        assertNotNull(words.get(new WordKey("SAADA", WordType.VERB, group2)));
+        assertNotEquals(words.get(new WordKey("SAADA", WordType.VERB, group1)),
+                words.get(new WordKey("SAADA", WordType.VERB, group2)));
+    }
+
+    @Test
+    void importCsv_ReusesExistingGroupsAndWords() throws IOException {
+        groups.put("1", 1L);
+        words.put(new WordKey("koira", WordType.SUBJECT, null), 11L);
+        words.put(new WordKey("SAADA", WordType.VERB, 1L), 12L);
+        words.put(new WordKey("luu", WordType.OBJECT, null), 13L);
+
+        LexiconImportReport report = importCsv("1;koira;SAADA;luu\n");
+
+        assertEquals(0, report.groupsCreated());
+        assertEquals(0, report.wordsCreated());
+        verify(lexiconBatchRepository, never()).insertGroups(any());
+        verify(combinationBatchRepository).insertIgnoringDuplicates(List.of(new CombinationKey(11L, 12L, 13L)));
+    }
+
+    @Test
+    void importCsv_WithUnchangedFile_WritesNothing() throws IOException {
+        groups.put("1", 1L);
+        words.put(new WordKey("koira", WordType.SUBJECT, null), 11L);
+        words.put(new WordKey("SAADA", WordType.VERB, 1L), 12L);
+        words.put(new WordKey("luu", WordType.OBJECT, null), 13L);
+        combinations.put(new CombinationKey(11L, 12L, 13L), 21L);
+
+        LexiconImportReport report = importCsv("1;koira;SAADA;luu\n1;koira;SAADA;luu\n");
+
+        assertFalse(report.changed());
+        assertEquals(1, report.combinationsUnchanged());
+        verify(lexiconBatchRepository, never()).insertGroups(any());
+        verify(lexiconBatchRepository).insertWords(Set.of());
+        verify(combinationBatchRepository).insertIgnoringDuplicates(List.of());
+        verify(combinationBatchRepository).deleteByIds(List.of());
+        verify(combinationBatchRepository, times(1)).findAllIds();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void importCsv_DeletesCombinationsMissingFromFile() throws IOException {
+        groups.put("1", 1L);
+        words.put(new WordKey("koira", WordType.SUBJECT, null), 11L);
+        words.put(new WordKey("SAADA", WordType.VERB, 1L), 12L);
+        words.put(new WordKey("luu", WordType.OBJECT, null), 13L);
+        words.put(new WordKey("lahja", WordType.OBJECT, null), 14L);
+        combinations.put(new CombinationKey(11L, 12L, 13L), 21L);
+        combinations.put(new CombinationKey(11L, 12L, 14L), 22L);
+
+        LexiconImportReport report = importCsv("1;koira;SAADA;luu\n");
+
+        assertEquals(0, report.combinationsCreated());
+        assertEquals(1, report.combinationsDeleted());
+        assertEquals(1, report.combinationsUnchanged());
+        verify(combinationBatchRepository).deleteByIds(List.of(22L));
+        verify(eventPublisher).publishEvent(any(LexiconChangedEvent.class));
+    }
+
+    @Test
+    void importCsv_WithoutValidLines_DeletesNothing() throws IOException {
+        combinations.put(new CombinationKey(11L, 12L, 13L), 21L);
+
+        LexiconImportReport report = importCsv("invalid;line\n");
+
+        assertEquals(0, report.combinationsDeleted());
+        verify(combinationBatchRepository).deleteByIds(List.of());
+    }
+
+    @Test
+    void importCsv_ReportsEachStageToListenerAsItFinishes() throws IOException {
+        List<String> stages = new ArrayList<>();
+
+        lexiconImporter.importCsv(new BufferedReader(new StringReader(HEADER + "1;koira;SAADA;luu\n")),
+                progress -> stages.add(progress.stage()));
+
+        assertEquals(List.of("parse", "dedupe", "groups", "words", "combinations"), stages);
+    }
+
+    @Test
+    void importCsv_ReportsInvalidLinesAndImportsTheRest() throws IOException {
+        LexiconImportReport report = importCsv("1;koira;SAADA;luu\ninvalid;line;here\n");
+
+        assertEquals(1, report.entries());
+        assertEquals(List.of("Line 3: Invalid CSV format. Expected 4 columns, found 3"), report.errors());
+        assertEquals(1, report.combinationsCreated());
+    }
+
+    @Test
+    void importCsv_ReportsTimingOfEveryStageInOrder() throws IOException {
+        LexiconImportReport report = importCsv("1;koira;SAADA;luu\n");
+
+        assertEquals(List.of("parse", "dedupe", "groups", "words", "combinations"),
+                new ArrayList<>(report.stageMillis().keySet()));
+    }
+
+    @Test
+    void importCsv_RunsWritesInOneTransactionAndPublishesEvent() throws IOException {
+        importCsv("1;koira;SAADA;luu\n");
+
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(eventPublisher).publishEvent(new LexiconChangedEvent());
+    }
+
+    @Test
+    void importCsv_WithNothingNew_DoesNotPublishEvent() throws IOException {
+        LexiconImportReport report = importCsv("");
+
+        assertEquals(0, report.entries());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private LexiconImportReport importCsv(String lines) throws IOException {
+        return lexiconImporter.importCsv(new BufferedReader(new StringReader(HEADER + lines)));
+    }
+}
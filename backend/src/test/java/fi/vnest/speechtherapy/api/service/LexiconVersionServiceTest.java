@@ -0,0 +1,137 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.model.LexiconVersion;
+import fi.vnest.speechtherapy.api.repository.LexiconVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LexiconVersionServiceTest {
+
+    @Mock
+    private LexiconVersionRepository versionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LexiconVersionService lexiconVersionService;
+
+    @Test
+    void current_LoadsOnStartupAndThenServesFromMemory() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID)).thenReturn(Optional.of(5L));
+
+        lexiconVersionService.init();
+
+        assertEquals(5L, lexiconVersionService.current());
+        assertEquals(5L, lexiconVersionService.current());
+        assertEquals("\"5\"", lexiconVersionService.etag());
+        assertEquals("\"5-ndjson\"", lexiconVersionService.etag("ndjson"));
+
+        verify(versionRepository, times(1)).findVersion(LexiconVersion.SINGLETON_ID);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void bump_IncrementsStoredVersion() {
+        when(versionRepository.increment(LexiconVersion.SINGLETON_ID)).thenReturn(1);
+
+        lexiconVersionService.bump(new LexiconChangedEvent());
+
+        verify(versionRepository, never()).save(any());
+    }
+
+    @Test
+    void bump_WhenRowMissing_CreatesIt() {
+        when(versionRepository.increment(LexiconVersion.SINGLETON_ID)).thenReturn(0);
+
+        lexiconVersionService.bump(new LexiconChangedEvent());
+
+        verify(versionRepository).save(argThat(version ->
+                version.getId().equals(LexiconVersion.SINGLETON_ID) && version.getVersion() == 1L));
+    }
+
+    @Test
+    void onLexiconChanged_RefreshesCachedVersionAfterCommit() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(5L), Optional.of(6L));
+
+        lexiconVersionService.init();
+        lexiconVersionService.onLexiconChanged(new LexiconChangedEvent());
+
+        assertEquals(6L, lexiconVersionService.current());
+    }
+
+    @Test
+    void onLexiconChanged_NeverMovesVersionBackwards() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(9L), Optional.of(8L));
+
+        lexiconVersionService.onLexiconChanged(new LexiconChangedEvent());
+        lexiconVersionService.onLexiconChanged(new LexiconChangedEvent());
+
+        assertEquals(9L, lexiconVersionService.current());
+    }
+
+    @Test
+    void onLexiconChanged_WithOnlyOwnWrite_LeavesOtherViews() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(5L), Optional.of(6L));
+        lexiconVersionService.init();
+
+        lexiconVersionService.onLexiconChanged(new LexiconChangedEvent());
+
+        assertEquals(6L, lexiconVersionService.current());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void onLexiconChanged_WithWritesFromElsewhere_DropsAllViews() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(5L), Optional.of(7L));
+        lexiconVersionService.init();
+
+        lexiconVersionService.onLexiconChanged(new LexiconChangedEvent());
+
+        verify(eventPublisher).publishEvent(new LexiconVersionChangedEvent(7L));
+        assertEquals(7L, lexiconVersionService.current());
+    }
+
+    @Test
+    void poll_WhenStoredVersionIsAhead_DropsViewsBeforePublishingVersion() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(5L), Optional.of(8L));
+        lexiconVersionService.init();
+        List<Long> versionsSeenByListeners = new ArrayList<>();
+        doAnswer(invocation -> versionsSeenByListeners.add(lexiconVersionService.current()))
+                .when(eventPublisher).publishEvent(any(LexiconVersionChangedEvent.class));
+
+        lexiconVersionService.poll();
+
+        assertEquals(List.of(5L), versionsSeenByListeners);
+        assertEquals(8L, lexiconVersionService.current());
+    }
+
+    @Test
+    void poll_WhenStoredVersionIsUnchanged_DoesNothing() {
+        when(versionRepository.findVersion(LexiconVersion.SINGLETON_ID)).thenReturn(Optional.of(5L));
+        lexiconVersionService.init();
+
+        lexiconVersionService.poll();
+
+        assertEquals(5L, lexiconVersionService.current());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,45 @@
+package fi.vnest.speechtherapy.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedTripleSetTest {
+
+    @Test
+    void contains_ReturnsTrueOnlyForAddedTriples() {
+        PackedTripleSet set = new PackedTripleSet(2);
+        set.add(0, 1, 2);
+        set.add(3, 1, 2);
+
+        assertTrue(set.contains(0, 1, 2));
+        assertTrue(set.contains(3, 1, 2));
+        assertFalse(set.contains(2, 1, 0));
+        assertFalse(set.contains(0, 1, 3));
+        assertFalse(set.contains(-1, 1, 2));
+    }
+
+    @Test
+    void add_IgnoresDuplicates() {
+        PackedTripleSet set = new PackedTripleSet(1);
+        set.add(5, 6, 7);
+        set.add(5, 6, 7);
+
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void add_HandlesManyTriplesAtMaximumIndex() {
+        int count = 10_000;
+        PackedTripleSet set = new PackedTripleSet(count);
+        for (int i = 0; i < count; i++) {
+            set.add(i, PackedTripleSet.MAX_INDEX - 1, count - i);
+        }
+
+        assertEquals(count, set.size());
+        for (int i = 0; i < count; i++) {
+            assertTrue(set.contains(i, PackedTripleSet.MAX_INDEX - 1, count - i));
+        }
+        assertFalse(set.contains(count, PackedTripleSet.MAX_INDEX - 1, 0));
+    }
+}
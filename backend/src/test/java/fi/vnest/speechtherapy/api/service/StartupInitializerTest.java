@@ -0,0 +1,154 @@
+package fi.vnest.speechtherapy.api.service;
+
+import fi.vnest.speechtherapy.api.config.InitializationHealthIndicator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupInitializerTest {
+
+    @Mock
+    private UserInitializer userInitializer;
+
+    @Mock
+    private DataInitializer dataInitializer;
+
+    @Mock
+    private SuggestionPayloadCache suggestionPayloadCache;
+
+    private StartupInitializer startupInitializer(boolean background) {
+        return startupInitializer(background, false);
+    }
+
+    private StartupInitializer startupInitializer(boolean background, boolean virtualThreads) {
+        return new StartupInitializer(userInitializer, dataInitializer, suggestionPayloadCache, background,
+                virtualThreads);
+    }
+
+    @Test
+    void beforeRun_ShouldReportPendingPhasesAndOutOfService() {
+        StartupInitializer initializer = startupInitializer(false);
+
+        assertFalse(initializer.isComplete());
+        assertNull(initializer.totalMillis());
+        assertEquals(List.of("users", "lexicon-import", "suggestions-warmup"),
+                initializer.phases().stream().map(StartupInitializer.Phase::name).toList());
+        assertTrue(initializer.phases().stream()
+                .allMatch(phase -> phase.status() == StartupInitializer.Status.PENDING));
+        assertEquals(Status.OUT_OF_SERVICE, new InitializationHealthIndicator(initializer).health().getStatus());
+    }
+
+    @Test
+    void run_ShouldRunAllPhasesAndRecordTimings() {
+        StartupInitializer initializer = startupInitializer(false);
+
+        initializer.run(null);
+
+        InOrder lexiconOrder = inOrder(dataInitializer, suggestionPayloadCache);
+        lexiconOrder.verify(dataInitializer).run();
+        lexiconOrder.verify(suggestionPayloadCache).current();
+        verify(userInitializer).run();
+
+        assertTrue(initializer.isComplete());
+        assertNotNull(initializer.totalMillis());
+        assertNotNull(initializer.startedAt());
+        for (StartupInitializer.Phase phase : initializer.phases()) {
+            assertEquals(StartupInitializer.Status.COMPLETED, phase.status());
+            assertNotNull(phase.startedAt());
+            assertNotNull(phase.millis());
+        }
+        assertEquals(Status.UP, new InitializationHealthIndicator(initializer).health().getStatus());
+    }
+
+    @Test
+    void run_WhenPhaseFails_ShouldRecordFailureAndStillComplete() {
+        StartupInitializer initializer = startupInitializer(false);
+        when(suggestionPayloadCache.current()).thenThrow(new IllegalStateException("serialization failed"));
+
+        initializer.run(null);
+
+        StartupInitializer.Phase warmup = initializer.phases().get(2);
+        assertEquals(StartupInitializer.Status.FAILED, warmup.status());
+        assertEquals("serialization failed", warmup.error());
+        assertEquals(StartupInitializer.Status.COMPLETED, initializer.phases().get(0).status());
+        assertTrue(initializer.isComplete());
+        assertTrue(initializer.hasFailed());
+        assertEquals(Status.DOWN, new InitializationHealthIndicator(initializer).health().getStatus());
+    }
+
+    @Test
+    void run_WhenLexiconImportFails_ShouldReportReadinessDown() {
+        StartupInitializer initializer = startupInitializer(false);
+        doThrow(new UncheckedIOException("Failed to read CSV data from data/missing.csv",
+                new FileNotFoundException("data/missing.csv"))).when(dataInitializer).run();
+
+        initializer.run(null);
+
+        StartupInitializer.Phase lexicon = initializer.phases().get(1);
+        assertEquals(StartupInitializer.Status.FAILED, lexicon.status());
+        assertEquals("Failed to read CSV data from data/missing.csv", lexicon.error());
+        assertEquals(Status.DOWN, new InitializationHealthIndicator(initializer).health().getStatus());
+    }
+
+    @Test
+    void whileRunning_AfterPhaseFailed_ShouldReportReadinessDown() throws Exception {
+        StartupInitializer initializer = startupInitializer(true);
+        CountDownLatch usersReleased = new CountDownLatch(1);
+        doAnswer(invocation -> usersReleased.await(5, TimeUnit.SECONDS)).when(userInitializer).run();
+        doThrow(new IllegalStateException("database down")).when(dataInitializer).run();
+
+        initializer.run(null);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!initializer.hasFailed() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertFalse(initializer.isComplete());
+        assertEquals(Status.DOWN, new InitializationHealthIndicator(initializer).health().getStatus());
+        usersReleased.countDown();
+    }
+
+    @Test
+    void run_InBackground_ShouldReturnBeforePhasesFinish() throws Exception {
+        StartupInitializer initializer = startupInitializer(true);
+        CountDownLatch importReleased = new CountDownLatch(1);
+        doAnswer(invocation -> importReleased.await(5, TimeUnit.SECONDS)).when(dataInitializer).run();
+
+        initializer.run(null);
+
+        assertFalse(initializer.isComplete());
+
+        importReleased.countDown();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!initializer.isComplete() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(initializer.isComplete());
+        verify(userInitializer).run();
+    }
+
+    @Test
+    void run_WithVirtualThreads_ShouldRunPhasesOnVirtualThreads() throws Exception {
+        StartupInitializer initializer = startupInitializer(true, true);
+        CompletableFuture<Thread> importThread = new CompletableFuture<>();
+        doAnswer(invocation -> importThread.complete(Thread.currentThread())).when(dataInitializer).run();
+
+        initializer.run(null);
+
+        assertTrue(importThread.get(5, TimeUnit.SECONDS).isVirtual());
+    }
+}
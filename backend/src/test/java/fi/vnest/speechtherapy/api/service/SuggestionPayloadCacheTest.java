@@ -0,0 +1,95 @@
+package fi.vnest.speechtherapy.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fi.vnest.speechtherapy.api.dto.SuggestionResponse;
+import fi.vnest.speechtherapy.api.dto.VerbSuggestion;
+import fi.vnest.speechtherapy.api.dto.WordReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionPayloadCacheTest {
+
+    @Mock
+    private CombinationService combinationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SuggestionPayloadCache cache;
+    private SuggestionResponse suggestions;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SuggestionPayloadCache(combinationService, objectMapper, true);
+        suggestions = new SuggestionResponse(
+                List.of(new VerbSuggestion(2L, "eats", null, List.of(1L), List.of(3L))),
+                List.of(WordReference.of(1L, "cat")),
+                List.of(WordReference.of(3L, "fish"))
+        );
+    }
+
+    @Test
+    void current_SerializesOncePerSuggestionsInstance() throws IOException {
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestions);
+
+        SuggestionPayloadCache.Payload first = cache.current();
+        SuggestionPayloadCache.Payload second = cache.current();
+
+        assertSame(first, second);
+        assertEquals(true, objectMapper.readTree(first.json()).get("success").asBoolean());
+        assertEquals("eats", objectMapper.readTree(first.json()).at("/data/verbs/0/text").asText());
+    }
+
+    @Test
+    void current_ReserializesWhenSuggestionsAreRecompiled() {
+        SuggestionResponse recompiled = new SuggestionResponse(List.of(), List.of(), List.of());
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestions, recompiled);
+
+        SuggestionPayloadCache.Payload before = cache.current();
+        SuggestionPayloadCache.Payload after = cache.current();
+
+        assertNotSame(before, after);
+        assertSame(recompiled, after.source());
+    }
+
+    @Test
+    void onLexiconChanged_EvictsPayload() {
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestions);
+
+        SuggestionPayloadCache.Payload before = cache.current();
+        cache.onLexiconChanged(new LexiconChangedEvent());
+
+        assertNotSame(before, cache.current());
+    }
+
+    @Test
+    void current_GzippedCopyDecompressesToJson() throws IOException {
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestions);
+
+        SuggestionPayloadCache.Payload payload = cache.current();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzipped()))) {
+            assertArrayEquals(payload.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void current_WithoutPrecompression_HasNoGzippedCopy() {
+        SuggestionPayloadCache plain = new SuggestionPayloadCache(combinationService, objectMapper, false);
+        when(combinationService.getExerciseSuggestions(null)).thenReturn(suggestions);
+
+        assertNull(plain.current().gzipped());
+        assertFalse(plain.isPrecompressed());
+    }
+}
@@ -0,0 +1,124 @@
+package fi.vnest.speechtherapy.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticLexiconGeneratorTest {
+
+    private static final SyntheticLexiconGenerator.Settings SETTINGS =
+            new SyntheticLexiconGenerator.Settings(5, 50, 40, 30, 0.05, 7L);
+
+    @Test
+    void write_WithSameSettings_ReturnsSameCsv() throws IOException {
+        assertEquals(csv(SETTINGS), csv(SETTINGS));
+    }
+
+    @Test
+    void write_WithDifferentSeed_ReturnsDifferentCsv() throws IOException {
+        SyntheticLexiconGenerator.Settings reseeded = new SyntheticLexiconGenerator.Settings(5, 50, 40, 30, 0.05, 8L);
+
+        assertNotEquals(csv(SETTINGS), csv(reseeded));
+    }
+
+    @Test
+    void write_ReturnsAboutTheExpectedNumberOfCombinations() throws IOException {
+        long written = new SyntheticLexiconGenerator(SETTINGS).write(new StringWriter());
+
+        // 3000 expected; the binomial standard deviation is about 53
+        assertEquals(3_000, SETTINGS.expectedCombinations());
+        assertTrue(Math.abs(written - 3_000) < 300, "Wrote " + written);
+    }
+
+    @Test
+    void write_WithFullDensity_WritesEveryTriple() throws IOException {
+        SyntheticLexiconGenerator.Settings full = new SyntheticLexiconGenerator.Settings(2, 3, 4, 5, 1.0, 1L);
+
+        assertEquals(60, new SyntheticLexiconGenerator(full).write(new StringWriter()));
+    }
+
+    @Test
+    void write_ProducesUniqueTriplesTheParserAccepts() throws IOException {
+        StringWriter writer = new StringWriter();
+        long written = new SyntheticLexiconGenerator(SETTINGS).write(writer);
+
+        LexiconCsvParser.Result result = LexiconCsvParser.parse(new BufferedReader(new StringReader(writer.toString())));
+
+        assertTrue(result.errors().isEmpty());
+        assertEquals(written, result.entryCount());
+        assertEquals(written, result.triples().size());
+    }
+
+    @Test
+    void write_PutsEachVerbInOneOfTheSections() throws IOException {
+        LexiconCsvParser.Result result = LexiconCsvParser.parse(new BufferedReader(new StringReader(csv(SETTINGS))));
+        Set<String> sections = result.triples().stream().map(LexiconEntry::section).collect(Collectors.toSet());
+
+        assertEquals(Set.of("1", "2", "3", "4", "5"), sections);
+        assertTrue(result.triples().stream()
+                .allMatch(entry -> entry.section().equals(
+                        Integer.toString(Integer.parseInt(entry.verb().substring("VERBI".length())) % 5 + 1))));
+    }
+
+    @Test
+    void reader_ReturnsSameCsvAsWrite() throws IOException {
+        StringBuilder read = new StringBuilder();
+        try (BufferedReader reader = new SyntheticLexiconGenerator(SETTINGS).reader()) {
+            char[] buffer = new char[7];
+            int count;
+            while ((count = reader.read(buffer)) != -1) {
+                read.append(buffer, 0, count);
+            }
+        }
+
+        assertEquals(csv(SETTINGS), read.toString());
+    }
+
+    @Test
+    void forEach_ReturnsSameCombinationsAsWrite() throws IOException {
+        SyntheticLexiconGenerator generator = new SyntheticLexiconGenerator(SETTINGS);
+        Set<LexiconEntry> generated = new HashSet<>();
+
+        long count = generator.forEach((verb, subject, object) -> generated.add(new LexiconEntry(
+                generator.section(verb), generator.subjectText(subject), generator.verbText(verb),
+                generator.objectText(object))));
+
+        LexiconCsvParser.Result result = LexiconCsvParser.parse(new BufferedReader(new StringReader(csv(SETTINGS))));
+        assertEquals(result.triples().size(), count);
+        assertEquals(result.triples(), generated);
+    }
+
+    @Test
+    void ofSize_ReturnsSettingsForAboutTheRequestedSize() {
+        SyntheticLexiconGenerator.Settings settings = SyntheticLexiconGenerator.Settings.ofSize(1_000_000, 42L);
+
+        assertEquals(1_000, settings.verbs());
+        assertEquals(1_000_000, settings.expectedCombinations(), 1_000);
+    }
+
+    @Test
+    void settings_WithInvalidValues_Throw() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SyntheticLexiconGenerator.Settings(0, 1, 1, 1, 0.5, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SyntheticLexiconGenerator.Settings(1, 1, 1, 1, 0.0, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SyntheticLexiconGenerator.Settings(1, 1, 1, 1, 1.5, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> SyntheticLexiconGenerator.Settings.ofSize(0, 1L));
+    }
+
+    private static String csv(SyntheticLexiconGenerator.Settings settings) throws IOException {
+        StringWriter writer = new StringWriter();
+        new SyntheticLexiconGenerator(settings).write(writer);
+        return writer.toString();
+    }
+}
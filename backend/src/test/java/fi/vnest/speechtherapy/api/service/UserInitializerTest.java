@@ -9,7 +9,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.ApplicationArguments;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -29,9 +28,6 @@ class UserInitializerTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @Mock
-    private ApplicationArguments applicationArguments;
-
     @InjectMocks
     private UserInitializer userInitializer;
 
@@ -39,7 +35,7 @@ class UserInitializerTest {
     void run_WithNullUsersConfig_ShouldNotCreateUsers() {
         ReflectionTestUtils.setField(userInitializer, "usersConfig", null);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         verify(userRepository, never()).save(any(User.class));
         verify(userRepository, never()).count();
@@ -49,7 +45,7 @@ class UserInitializerTest {
     void run_WithEmptyUsersConfig_ShouldNotCreateUsers() {
         ReflectionTestUtils.setField(userInitializer, "usersConfig", "   ");
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         verify(userRepository, never()).save(any(User.class));
         verify(userRepository, never()).count();
@@ -62,7 +58,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail("admin@example.com")).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -82,7 +78,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail("user@example.com")).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -108,7 +104,7 @@ class UserInitializerTest {
         when(userRepository.existsByEmail("existing@example.com")).thenReturn(true);
         when(userRepository.findByEmail("existing@example.com")).thenReturn(Optional.of(existingUser));
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -127,7 +123,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         verify(userRepository, times(2)).save(any(User.class));
         verify(userRepository).count();
@@ -138,7 +134,7 @@ class UserInitializerTest {
         String usersConfig = "invalid:config";
         ReflectionTestUtils.setField(userInitializer, "usersConfig", usersConfig);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         verify(userRepository, never()).save(any(User.class));
         verify(userRepository).count();
@@ -152,7 +148,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         verify(userRepository, times(2)).save(any(User.class));
         verify(userRepository).count();
@@ -165,7 +161,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail("user@example.com")).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -187,7 +183,7 @@ class UserInitializerTest {
         when(userRepository.save(argThat(user -> user.getEmail().equals("fail@example.com"))))
                 .thenThrow(new RuntimeException("Database error"));
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         verify(userRepository, times(2)).save(any(User.class));
         verify(userRepository).count();
@@ -200,7 +196,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail("user@example.com")).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -218,7 +214,7 @@ class UserInitializerTest {
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
         when(userRepository.existsByEmail("user@example.com")).thenReturn(false);
 
-        userInitializer.run(applicationArguments);
+        userInitializer.run();
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -0,0 +1,143 @@
+package fi.vnest.speechtherapy.api.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import fi.vnest.speechtherapy.api.config.CacheConfig;
+import fi.vnest.speechtherapy.api.dto.GroupRequest;
+import fi.vnest.speechtherapy.api.dto.WordRequest;
+import fi.vnest.speechtherapy.api.model.Word;
+import fi.vnest.speechtherapy.api.model.WordGroup;
+import fi.vnest.speechtherapy.api.model.WordType;
+import fi.vnest.speechtherapy.api.repository.GroupRepository;
+import fi.vnest.speechtherapy.api.repository.WordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks the cache annotations on WordService against the real cache manager.
+ */
+@SpringJUnitConfig({CacheConfig.class, WordService.class})
+class WordServiceCacheTest {
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private WordRepository wordRepository;
+
+    @MockBean
+    private GroupRepository groupRepository;
+
+    private Word verbWord;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        verbWord = new Word("eats", WordType.VERB);
+        verbWord.setId(2L);
+    }
+
+    @Test
+    void findAll_SecondCallIsServedFromCache() {
+        when(wordRepository.findAllWithGroupByType(WordType.VERB)).thenReturn(List.of(verbWord));
+
+        wordService.findAll(WordType.VERB);
+        List<Word> cached = wordService.findAll(WordType.VERB);
+
+        assertEquals(List.of(verbWord), cached);
+        verify(wordRepository, times(1)).findAllWithGroupByType(WordType.VERB);
+
+        CacheStats stats = stats(CacheConfig.WORDS);
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void findAll_CachesEachTypeSeparately() {
+        when(wordRepository.findAllWithGroup()).thenReturn(List.of(verbWord));
+        when(wordRepository.findAllWithGroupByType(WordType.VERB)).thenReturn(List.of(verbWord));
+
+        wordService.findAll(null);
+        wordService.findAll(WordType.VERB);
+        wordService.findAll(null);
+
+        verify(wordRepository, times(1)).findAllWithGroup();
+        verify(wordRepository, times(1)).findAllWithGroupByType(WordType.VERB);
+    }
+
+    @Test
+    void findById_IsCachedButMissesAreNot() {
+        when(wordRepository.findWithGroupById(2L)).thenReturn(Optional.of(verbWord));
+        when(wordRepository.findWithGroupById(999L)).thenReturn(Optional.empty());
+
+        wordService.findById(2L);
+        wordService.findById(2L);
+        assertThrows(RuntimeException.class, () -> wordService.findById(999L));
+        assertThrows(RuntimeException.class, () -> wordService.findById(999L));
+
+        verify(wordRepository, times(1)).findWithGroupById(2L);
+        verify(wordRepository, times(2)).findWithGroupById(999L);
+    }
+
+    @Test
+    void createWord_EvictsWordCaches() {
+        when(wordRepository.findAllWithGroupByType(WordType.VERB)).thenReturn(List.of(verbWord));
+        when(wordRepository.findWithGroupById(2L)).thenReturn(Optional.of(verbWord));
+        when(wordRepository.save(any(Word.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        wordService.findAll(WordType.VERB);
+        wordService.findById(2L);
+        WordRequest request = new WordRequest();
+        request.setText("drinks");
+        request.setType(WordType.VERB);
+        wordService.createWord(request);
+        wordService.findAll(WordType.VERB);
+        wordService.findById(2L);
+
+        verify(wordRepository, times(2)).findAllWithGroupByType(WordType.VERB);
+        verify(wordRepository, times(2)).findWithGroupById(2L);
+    }
+
+    @Test
+    void updateGroup_EvictsGroupsAndWords() {
+        WordGroup group = new WordGroup("animals", "animal related");
+        group.setId(7L);
+        when(groupRepository.findAll()).thenReturn(List.of(group));
+        when(groupRepository.findById(7L)).thenReturn(Optional.of(group));
+        when(groupRepository.save(group)).thenReturn(group);
+        when(wordRepository.findAllWithGroup()).thenReturn(List.of(verbWord));
+
+        wordService.getAllGroups();
+        wordService.findAll(null);
+        GroupRequest request = new GroupRequest();
+        request.setName("pets");
+        request.setDescription("pet related");
+        wordService.updateGroup(7L, request);
+        wordService.getAllGroups();
+        wordService.findAll(null);
+
+        verify(groupRepository, times(2)).findAll();
+        verify(wordRepository, times(2)).findAllWithGroup();
+    }
+
+    private CacheStats stats(String cacheName) {
+        TransactionAwareCacheDecorator decorator = (TransactionAwareCacheDecorator) cacheManager.getCache(cacheName);
+        return ((CaffeineCache) decorator.getTargetCache()).getNativeCache().stats();
+    }
+}
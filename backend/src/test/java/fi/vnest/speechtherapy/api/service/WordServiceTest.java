@@ -1,6 +1,7 @@
 package fi.vnest.speechtherapy.api.service;
 
 import fi.vnest.speechtherapy.api.dto.GroupRequest;
+import fi.vnest.speechtherapy.api.dto.KeysetPage;
 import fi.vnest.speechtherapy.api.dto.WordRequest;
 import fi.vnest.speechtherapy.api.model.Word;
 import fi.vnest.speechtherapy.api.model.WordGroup;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -31,6 +34,9 @@ class WordServiceTest {
     @Mock
     GroupRepository groupRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private WordService wordService;
 
@@ -63,64 +69,97 @@ class WordServiceTest {
     @Test
     void findAll_WithoutType_ReturnsAllWords() {
         List<Word> expected = List.of(subjectWord, verbWord, objectWord);
-        when(wordRepository.findAll()).thenReturn(expected);
+        when(wordRepository.findAllWithGroup()).thenReturn(expected);
 
         List<Word> result = wordService.findAll(null);
 
         assertEquals(3, result.size());
         assertEquals(expected, result);
-        verify(wordRepository).findAll();
-        verify(wordRepository, never()).findByType(any());
+        verify(wordRepository).findAllWithGroup();
+        verify(wordRepository, never()).findAllWithGroupByType(any());
+    }
+
+    @Test
+    void findPage_WithMoreRowsThanLimit_ReturnsCursorOfLastItem() {
+        when(wordRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(subjectWord, verbWord, objectWord));
+
+        KeysetPage<Word> page = wordService.findPage(null, null, 2);
+
+        assertEquals(List.of(subjectWord, verbWord), page.items());
+        assertEquals(2L, page.nextCursor());
+    }
+
+    @Test
+    void findPage_WithTypeOnLastPage_ReturnsNullCursor() {
+        when(wordRepository.findByTypeAndIdGreaterThanOrderByIdAsc(WordType.OBJECT, 2L, Limit.of(11)))
+                .thenReturn(List.of(objectWord));
+
+        KeysetPage<Word> page = wordService.findPage(WordType.OBJECT, 2L, 10);
+
+        assertEquals(List.of(objectWord), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void findPage_ClampsLimitToMaximum() {
+        when(wordRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(KeysetPage.MAX_LIMIT + 1)))
+                .thenReturn(List.of());
+
+        KeysetPage<Word> page = wordService.findPage(null, null, 1_000_000);
+
+        assertTrue(page.items().isEmpty());
+        assertNull(page.nextCursor());
     }
 
     @Test
     void findAll_WithSubjectType_ReturnsOnlySubjects() {
         List<Word> expected = List.of(subjectWord);
-        when(wordRepository.findByType(WordType.SUBJECT)).thenReturn(expected);
+        when(wordRepository.findAllWithGroupByType(WordType.SUBJECT)).thenReturn(expected);
 
         List<Word> result = wordService.findAll(WordType.SUBJECT);
 
         assertEquals(1, result.size());
         assertEquals(expected, result);
         assertEquals(WordType.SUBJECT, result.get(0).getType());
-        verify(wordRepository).findByType(WordType.SUBJECT);
-        verify(wordRepository, never()).findAll();
+        verify(wordRepository).findAllWithGroupByType(WordType.SUBJECT);
+        verify(wordRepository, never()).findAllWithGroup();
     }
 
     @Test
     void findAll_WithVerbType_ReturnsOnlyVerbs() {
         List<Word> expected = List.of(verbWord);
-        when(wordRepository.findByType(WordType.VERB)).thenReturn(expected);
+        when(wordRepository.findAllWithGroupByType(WordType.VERB)).thenReturn(expected);
 
         List<Word> result = wordService.findAll(WordType.VERB);
 
         assertEquals(1, result.size());
         assertEquals(expected, result);
         assertEquals(WordType.VERB, result.get(0).getType());
-        verify(wordRepository).findByType(WordType.VERB);
+        verify(wordRepository).findAllWithGroupByType(WordType.VERB);
     }
 
     @Test
     void findAll_WithObjectType_ReturnsOnlyObjects() {
         List<Word> expected = List.of(objectWord);
-        when(wordRepository.findByType(WordType.OBJECT)).thenReturn(expected);
+        when(wordRepository.findAllWithGroupByType(WordType.OBJECT)).thenReturn(expected);
 
         List<Word> result = wordService.findAll(WordType.OBJECT);
 
         assertEquals(1, result.size());
         assertEquals(expected, result);
         assertEquals(WordType.OBJECT, result.get(0).getType());
-        verify(wordRepository).findByType(WordType.OBJECT);
+        verify(wordRepository).findAllWithGroupByType(WordType.OBJECT);
     }
 
     @Test
     void findAll_WithTypeNotFound_ReturnsEmptyList() {
-        when(wordRepository.findByType(WordType.SUBJECT)).thenReturn(List.of());
+        when(wordRepository.findAllWithGroupByType(WordType.SUBJECT)).thenReturn(List.of());
 
         List<Word> result = wordService.findAll(WordType.SUBJECT);
 
         assertTrue(result.isEmpty());
-        verify(wordRepository).findByType(WordType.SUBJECT);
+        verify(wordRepository).findAllWithGroupByType(WordType.SUBJECT);
     }
 
     @Test
@@ -396,7 +435,7 @@ class WordServiceTest {
     @Test
     void findById_WithExistingId_ReturnsWord() {
         Long wordId = 1L;
-        when(wordRepository.findById(wordId)).thenReturn(Optional.of(subjectWord));
+        when(wordRepository.findWithGroupById(wordId)).thenReturn(Optional.of(subjectWord));
 
         Word result = wordService.findById(wordId);
 
@@ -404,25 +443,25 @@ class WordServiceTest {
         assertEquals(wordId, result.getId());
         assertEquals("cat", result.getText());
         assertEquals(WordType.SUBJECT, result.getType());
-        verify(wordRepository).findById(wordId);
+        verify(wordRepository).findWithGroupById(wordId);
     }
 
     @Test
     void findById_WithNonExistentId_ThrowsNoSuchElementException() {
         Long wordId = 999L;
-        when(wordRepository.findById(wordId)).thenReturn(Optional.empty());
+        when(wordRepository.findWithGroupById(wordId)).thenReturn(Optional.empty());
 
         NoSuchElementException exception = assertThrows(NoSuchElementException.class,
                 () -> wordService.findById(wordId));
 
         assertTrue(exception.getMessage().contains("Word not found with ID: " + wordId));
-        verify(wordRepository).findById(wordId);
+        verify(wordRepository).findWithGroupById(wordId);
     }
 
     @Test
     void findById_WithVerbWord_ReturnsWordWithGroup() {
         Long wordId = 2L;
-        when(wordRepository.findById(wordId)).thenReturn(Optional.of(verbWord));
+        when(wordRepository.findWithGroupById(wordId)).thenReturn(Optional.of(verbWord));
 
         Word result = wordService.findById(wordId);
 
@@ -431,19 +470,19 @@ class WordServiceTest {
         assertEquals("eats", result.getText());
         assertEquals(WordType.VERB, result.getType());
         assertEquals(group, result.getGroup());
-        verify(wordRepository).findById(wordId);
+        verify(wordRepository).findWithGroupById(wordId);
     }
 
     @Test
     void findById_VerifiesCorrectRepositoryMethodCalled() {
         Long wordId = 1L;
-        when(wordRepository.findById(wordId)).thenReturn(Optional.of(subjectWord));
+        when(wordRepository.findWithGroupById(wordId)).thenReturn(Optional.of(subjectWord));
 
         wordService.findById(wordId);
 
-        verify(wordRepository, times(1)).findById(wordId);
-        verify(wordRepository, never()).findAll();
-        verify(wordRepository, never()).findByType(any());
+        verify(wordRepository, times(1)).findWithGroupById(wordId);
+        verify(wordRepository, never()).findAllWithGroup();
+        verify(wordRepository, never()).findAllWithGroupByType(any());
     }
 
     @Test
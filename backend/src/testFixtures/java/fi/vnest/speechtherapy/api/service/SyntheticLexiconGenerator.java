@@ -0,0 +1,292 @@
+package fi.vnest.speechtherapy.api.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic lexicons in the CSV format read by {@link LexiconCsvParser} and {@code DataInitializer},
+ * for scale tests and benchmarks.
+ * <p>
+ * Each verb allows every subject-object pair with probability {@code density}, independently, so a lexicon has
+ * about {@code verbs * subjects * objects * density} combinations and no duplicates. Pairs are sampled by
+ * geometric skipping, which costs time per generated combination rather than per possible one, and lines are
+ * produced one at a time, so tens of millions of combinations need no more memory than a few.
+ * The output depends only on the settings: every verb draws from its own random stream derived from the seed.
+ * <p>
+ * Words are named by index ({@code subjekti12}, {@code VERBI3}, {@code objekti7}); verb {@code v} belongs to
+ * section {@code v % groups + 1}. Verbs that draw no pairs do not appear in the file.
+ * <p>
+ * From the command line: {@code ./gradlew generateLexicon -Dlexicon.output=big.csv -Dlexicon.combinations=20000000}
+ */
+public final class SyntheticLexiconGenerator {
+
+    static final String HEADER = "SECTION;SUBJECT;VERB;OBJECT";
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Shape of a generated lexicon.
+     *
+     * @param groups   Number of sections the verbs are spread over.
+     * @param verbs    Number of verbs.
+     * @param subjects Number of subjects shared by all verbs.
+     * @param objects  Number of objects shared by all verbs.
+     * @param density  Probability that a verb allows a given subject-object pair, in (0, 1].
+     * @param seed     Seed of the random streams; the same settings always give the same file.
+     */
+    public record Settings(int groups, int verbs, int subjects, int objects, double density, long seed) {
+
+        public Settings {
+            if (groups < 1 || verbs < 1 || subjects < 1 || objects < 1) {
+                throw new IllegalArgumentException("Groups, verbs, subjects and objects must be positive");
+            }
+            if (!(density > 0 && density <= 1)) {
+                throw new IllegalArgumentException("Density must be in (0, 1], was " + density);
+            }
+        }
+
+        /**
+         * Settings for about {@code combinations} combinations with roughly a thousand per verb,
+         * like the shape of the real lexicon scaled up.
+         */
+        public static Settings ofSize(long combinations, long seed) {
+            if (combinations < 1) {
+                throw new IllegalArgumentException("Combinations must be positive");
+            }
+            int verbs = (int) Math.min(100_000, Math.max(10, combinations / 1_000));
+            // Each verb allows about a quarter of its pairs
+            double pairsPerVerb = 4.0 * combinations / verbs;
+            int words = (int) Math.ceil(Math.sqrt(pairsPerVerb));
+            double density = Math.min(1.0, (double) combinations / ((double) verbs * words * words));
+            return new Settings(20, verbs, words, words, density, seed);
+        }
+
+        public long expectedCombinations() {
+            return Math.round((double) verbs * subjects * objects * density);
+        }
+    }
+
+    /**
+     * Receives generated combinations as word indexes.
+     */
+    @FunctionalInterface
+    public interface CombinationSink {
+        void accept(int verb, int subject, int object);
+    }
+
+    private final Settings settings;
+
+    public SyntheticLexiconGenerator(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    /**
+     * Generates every combination in file order: by verb, then subject, then object.
+     *
+     * @return The number of combinations.
+     */
+    public long forEach(CombinationSink sink) {
+        Cursor cursor = new Cursor(settings);
+        long count = 0;
+        while (cursor.next()) {
+            sink.accept(cursor.verb, cursor.subject, cursor.object);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the CSV, header included.
+     *
+     * @return The number of combination lines.
+     */
+    public long write(Writer writer) throws IOException {
+        Cursor cursor = new Cursor(settings);
+        StringBuilder line = new StringBuilder(64);
+        long count = 0;
+
+        writer.write(HEADER);
+        writer.write('\n');
+        while (cursor.next()) {
+            line.setLength(0);
+            cursor.appendLine(line);
+            writer.append(line);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Writes the CSV to a UTF-8 file.
+     *
+     * @return The number of combination lines.
+     */
+    public long write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return write(writer);
+        }
+    }
+
+    /**
+     * Reads the CSV as it is generated, e.g. to pass to {@code LexiconImporter} without a temporary file.
+     */
+    public BufferedReader reader() {
+        return new BufferedReader(new GeneratingReader(new Cursor(settings)));
+    }
+
+    public String subjectText(int subject) {
+        return "subjekti" + subject;
+    }
+
+    public String verbText(int verb) {
+        return "VERBI" + verb;
+    }
+
+    public String objectText(int object) {
+        return "objekti" + object;
+    }
+
+    public String section(int verb) {
+        return Integer.toString(verb % settings.groups() + 1);
+    }
+
+    /**
+     * {@code ./gradlew generateLexicon} entry point; settings come from {@code -Dlexicon.*} system properties.
+     * {@code lexicon.combinations} picks a shape with {@link Settings#ofSize}; otherwise
+     * {@code lexicon.groups}, {@code verbs}, {@code subjects}, {@code objects} and {@code density} apply.
+     */
+    public static void main(String[] args) throws IOException {
+        String output = System.getProperty("lexicon.output");
+        if (output == null) {
+            throw new IllegalArgumentException("Set -Dlexicon.output to the CSV file to write");
+        }
+
+        long seed = Long.getLong("lexicon.seed", 42L);
+        String combinations = System.getProperty("lexicon.combinations");
+        Settings settings = combinations != null
+                ? Settings.ofSize(Long.parseLong(combinations), seed)
+                : new Settings(
+                        Integer.getInteger("lexicon.groups", 20),
+                        Integer.getInteger("lexicon.verbs", 1_000),
+                        Integer.getInteger("lexicon.subjects", 500),
+                        Integer.getInteger("lexicon.objects", 500),
+                        Double.parseDouble(System.getProperty("lexicon.density", "0.01")),
+                        seed);
+
+        long start = System.nanoTime();
+        long written = new SyntheticLexiconGenerator(settings).write(Path.of(output));
+        System.out.printf(Locale.ROOT, "Wrote %d combinations to %s in %.1f s (%s)%n",
+                written, output, (System.nanoTime() - start) / 1e9, settings);
+    }
+
+    /**
+     * Walks the combinations of one verb after another. For each verb the subject-object pairs are numbered
+     * {@code subject * objects + object}, and the gap to the next allowed pair is drawn from the geometric
+     * distribution, which is the same as deciding every pair with probability {@code density}.
+     */
+    private final class Cursor {
+
+        private final long pairs;
+        private final double logMiss;
+        private int verb = -1;
+        private SplittableRandom random;
+        private long pair;
+        private int subject;
+        private int object;
+
+        Cursor(Settings settings) {
+            this.pairs = (long) settings.subjects() * settings.objects();
+            this.logMiss = Math.log1p(-settings.density());
+            this.pair = pairs;
+        }
+
+        boolean next() {
+            while (true) {
+                if (pair < pairs) {
+                    pair = nextPair(pair);
+                    if (pair < pairs) {
+                        subject = (int) (pair / settings.objects());
+                        object = (int) (pair % settings.objects());
+                        return true;
+                    }
+                }
+                if (verb + 1 >= settings.verbs()) {
+                    return false;
+                }
+                verb++;
+                random = new SplittableRandom(settings.seed() + verb * SEED_STRIDE);
+                pair = -1;
+            }
+        }
+
+        private long nextPair(long current) {
+            if (settings.density() >= 1.0) {
+                return current + 1;
+            }
+            // 1 - u is in (0, 1], so the logarithm is finite
+            double gap = Math.floor(Math.log1p(-random.nextDouble()) / logMiss);
+            return gap >= pairs ? pairs : current + 1 + (long) gap;
+        }
+
+        void appendLine(StringBuilder line) {
+            line.append(section(verb)).append(';')
+                    .append(subjectText(subject)).append(';')
+                    .append(verbText(verb)).append(';')
+                    .append(objectText(object)).append('\n');
+        }
+    }
+
+    /**
+     * Serves the generated CSV as characters, one line at a time.
+     */
+    private final class GeneratingReader extends Reader {
+
+        private final Cursor cursor;
+        private final StringBuilder buffer = new StringBuilder(HEADER).append('\n');
+        private int position;
+        private boolean exhausted;
+
+        GeneratingReader(Cursor cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public int read(char[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == buffer.length()) {
+                if (exhausted || !cursor.next()) {
+                    exhausted = true;
+                    return -1;
+                }
+                buffer.setLength(0);
+                position = 0;
+                cursor.appendLine(buffer);
+            }
+
+            int count = Math.min(length, buffer.length() - position);
+            buffer.getChars(position, position + count, target, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            exhausted = true;
+            position = buffer.length();
+        }
+    }
+}